@@ -260,14 +260,17 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
 			SessionFactoryImplementor factory = session.getFactory();
 			final Object ck = cache.generateCacheKey( getId(), persister, factory, session.getTenantIdentifier() );
-			final boolean put = cacheAfterInsert( cache, ck );
-
-			final StatisticsImplementor statistics = factory.getStatistics();
-			if ( put && statistics.isStatisticsEnabled() ) {
-				statistics.entityCachePut(
-						StatsHelper.INSTANCE.getRootEntityRole( persister ),
-						cache.getRegion().getName()
-				);
+			if ( !session.getCacheTransactionSynchronization()
+					.deferAfterInsert( persister, ck, cacheEntry, version, session ) ) {
+				final boolean put = cacheAfterInsert( cache, ck );
+
+				final StatisticsImplementor statistics = factory.getStatistics();
+				if ( put && statistics.isStatisticsEnabled() ) {
+					statistics.entityCachePut(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
 			}
 		}
 		postCommitInsert( success );
@@ -429,7 +429,10 @@ public class EntityUpdateAction extends EntityAction {
 
 			);
 			if ( cacheUpdateRequired( success, persister, session ) ) {
-				cacheAfterUpdate( cache, ck, session);
+				if ( !session.getCacheTransactionSynchronization()
+						.deferAfterUpdate( persister, ck, cacheEntry, nextVersion, previousVersion, lock, session ) ) {
+					cacheAfterUpdate( cache, ck, session );
+				}
 			}
 			else {
 				cache.unlockItem( session, ck, lock );
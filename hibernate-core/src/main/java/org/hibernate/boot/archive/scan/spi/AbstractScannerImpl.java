@@ -6,9 +6,16 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
 
 import org.hibernate.boot.archive.scan.internal.NoopEntryHandler;
 import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
@@ -19,10 +26,22 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
 
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractScannerImpl implements Scanner {
+	private static final Logger log = Logger.getLogger( AbstractScannerImpl.class );
+
+	/**
+	 * The location of a build-time Jandex index within an archive.  This is where
+	 * the Hibernate Gradle plugin, as well as the Jandex build plugins, write it.
+	 */
+	public static final String ARCHIVE_INDEX_NAME = "META-INF/jandex.idx";
+
 	private final ArchiveDescriptorFactory archiveDescriptorFactory;
 	private final Map<URL, ArchiveDescriptorInfo> archiveDescriptorCache = new HashMap<>();
 
@@ -32,25 +51,93 @@ public abstract class AbstractScannerImpl implements Scanner {
 
 	@Override
 	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+		final long start = System.nanoTime();
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
 
+		int archiveCount = 0;
+		int indexedArchiveCount = 0;
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
 				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
-				descriptor.visitArchive( context );
+				final IndexView archiveIndex = resolveArchiveIndex( url );
+				descriptor.visitArchive( new ArchiveContextImpl( false, collector, archiveIndex ) );
+				archiveCount++;
+				if ( archiveIndex != null ) {
+					indexedArchiveCount++;
+				}
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
-			descriptor.visitArchive( context );
+			final IndexView archiveIndex = resolveArchiveIndex( environment.getRootUrl() );
+			descriptor.visitArchive( new ArchiveContextImpl( true, collector, archiveIndex ) );
+			archiveCount++;
+			if ( archiveIndex != null ) {
+				indexedArchiveCount++;
+			}
 		}
 
-		return collector.toScanResult();
+		final ScanResult scanResult = collector.toScanResult();
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Scanned %s archive(s) (%s using a Jandex index) in %sms : %s classes, %s packages, %s mapping files",
+					archiveCount,
+					indexedArchiveCount,
+					( System.nanoTime() - start ) / 1_000_000,
+					scanResult.getLocatedClasses().size(),
+					scanResult.getLocatedPackages().size(),
+					scanResult.getLocatedMappingFiles().size()
+			);
+		}
+		return scanResult;
 	}
 
+	/**
+	 * Locate the Jandex index built for the archive at the given url, if there is one
+	 * at {@value #ARCHIVE_INDEX_NAME}.  Classes found in the index are categorized
+	 * based on the index, without reading their class file.
+	 * <p>
+	 * Only {@code file:} urls, to either a directory or a jar, are handled here.
+	 *
+	 * @return The archive's index, or {@code null} if the archive has none
+	 */
+	protected IndexView resolveArchiveIndex(URL url) {
+		if ( !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			final File file = new File( url.toURI() );
+			if ( file.isDirectory() ) {
+				final File indexFile = new File( file, ARCHIVE_INDEX_NAME );
+				if ( !indexFile.isFile() ) {
+					return null;
+				}
+				try ( InputStream stream = Files.newInputStream( indexFile.toPath() ) ) {
+					return new IndexReader( stream ).read();
+				}
+			}
+			else if ( file.isFile() ) {
+				try ( JarFile jarFile = new JarFile( file ) ) {
+					final ZipEntry indexEntry = jarFile.getEntry( ARCHIVE_INDEX_NAME );
+					if ( indexEntry == null ) {
+						return null;
+					}
+					try ( InputStream stream = jarFile.getInputStream( indexEntry ) ) {
+						return new IndexReader( stream ).read();
+					}
+				}
+			}
+			else {
+				return null;
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException | IOException e) {
+			// fall back to reading the class files
+			log.debugf( e, "Unable to read Jandex index of archive [%s]", url );
+			return null;
+		}
+	}
 
 	private ArchiveDescriptor buildArchiveDescriptor(
 			URL url,
@@ -113,9 +200,13 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null );
+		}
+
+		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector, IndexView archiveIndex) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, archiveIndex );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
@@ -20,9 +20,11 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassSummary;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 /**
@@ -41,10 +43,20 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final IndexView archiveIndex;
 	private final Indexer indexer;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null );
+	}
+
+	/**
+	 * @param archiveIndex A Jandex index of the archive, used to categorize the
+	 * classes it contains without reading their class file; may be {@code null}
+	 */
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, IndexView archiveIndex) {
 		this.resultCollector = resultCollector;
+		this.archiveIndex = archiveIndex;
 		this.indexer = new Indexer();
 	}
 
@@ -61,6 +73,17 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+		if ( archiveIndex != null ) {
+			final String className = toClassName( entry.getNameWithinArchive() );
+			if ( className != null ) {
+				final ClassInfo classInfo = archiveIndex.getClassByName( className );
+				if ( classInfo != null ) {
+					return toClassDescriptor( classInfo, entry );
+				}
+			}
+			// else the class is not part of the index, read it
+		}
+
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			ClassSummary classSummary = indexer.indexWithSummary( inputStream );
 			Index index = indexer.complete();
@@ -84,6 +107,59 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
+	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, ArchiveEntry entry) {
+		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+
+		if ( isModel( classInfo ) ) {
+			categorization = ClassDescriptor.Categorization.MODEL;
+		}
+		else if ( classInfo.hasAnnotation( CONVERTER ) ) {
+			categorization = ClassDescriptor.Categorization.CONVERTER;
+		}
+
+		return new ClassDescriptorImpl( classInfo.name().toString(), categorization, entry.getStreamAccess() );
+	}
+
+	/**
+	 * The name of the class held by the entry if the entry is relative to the root of the
+	 * archive, which the archive index describes.  Entries elsewhere in the archive, such as
+	 * under {@code WEB-INF/classes/} or {@code META-INF/versions/}, do not map to a class
+	 * name, and are read instead.
+	 *
+	 * @return The class name, or {@code null} if the entry is not relative to the root of the archive
+	 */
+	private static String toClassName(String nameWithinArchive) {
+		final int start = nameWithinArchive.startsWith( "/" ) ? 1 : 0;
+		final String path = nameWithinArchive.substring( start, nameWithinArchive.length() - ".class".length() );
+		for ( String segment : path.split( "/" ) ) {
+			if ( !isJavaIdentifier( segment ) ) {
+				return null;
+			}
+		}
+		return path.replace( '/', '.' );
+	}
+
+	private static boolean isJavaIdentifier(String segment) {
+		if ( segment.isEmpty() || !Character.isJavaIdentifierStart( segment.charAt( 0 ) ) ) {
+			return false;
+		}
+		for ( int i = 1; i < segment.length(); i++ ) {
+			if ( !Character.isJavaIdentifierPart( segment.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isModel(ClassInfo classInfo) {
+		for ( DotName model : MODELS ) {
+			if ( classInfo.hasAnnotation( model ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isConverter(Index index) {
 		return !index.getAnnotations( CONVERTER ).isEmpty();
 	}
@@ -95,6 +95,7 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_CATALOG;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
+import static org.hibernate.cfg.AvailableSettings.DELAY_STATIC_SQL_GENERATION;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
@@ -121,8 +122,11 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_CACHE_WRITE_BEHIND;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_COLLECTION_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
+import static org.hibernate.cfg.AvailableSettings.USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
 import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
@@ -202,6 +206,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
+	private boolean delayStaticSqlGeneration;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
@@ -242,6 +247,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
+	private boolean immutableSnapshotCacheEntriesEnabled;
+	private boolean compactCollectionCacheEntriesEnabled;
+	private boolean cacheWriteBehindEnabled;
 	private boolean autoEvictCollectionCache;
 
 	// Schema tooling
@@ -378,6 +386,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
+		this.delayStaticSqlGeneration = configurationService.getSetting( DELAY_STATIC_SQL_GENERATION, BOOLEAN, false );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
@@ -486,6 +495,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					BOOLEAN,
 					false
 			);
+			this.immutableSnapshotCacheEntriesEnabled = configurationService.getSetting(
+					USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES,
+					BOOLEAN,
+					false
+			);
+			this.compactCollectionCacheEntriesEnabled = configurationService.getSetting(
+					USE_COMPACT_COLLECTION_CACHE_ENTRIES,
+					BOOLEAN,
+					false
+			);
+			this.cacheWriteBehindEnabled = configurationService.getSetting( USE_CACHE_WRITE_BEHIND, BOOLEAN, false );
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 		}
 		else {
@@ -497,6 +517,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
+			this.immutableSnapshotCacheEntriesEnabled = false;
+			this.compactCollectionCacheEntriesEnabled = false;
+			this.cacheWriteBehindEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
 
@@ -1018,6 +1041,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return delayBatchFetchLoaderCreations;
 	}
 
+	@Override
+	public boolean isDelayStaticSqlGenerationEnabled() {
+		return delayStaticSqlGeneration;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -1108,6 +1136,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isImmutableSnapshotCacheEntriesEnabled() {
+		return immutableSnapshotCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isCompactCollectionCacheEntriesEnabled() {
+		return compactCollectionCacheEntriesEnabled;
+	}
+
+	@Override
+	public boolean isCacheWriteBehindEnabled() {
+		return cacheWriteBehindEnabled;
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
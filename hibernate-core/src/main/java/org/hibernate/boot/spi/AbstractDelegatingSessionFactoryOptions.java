@@ -180,6 +180,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isDelayStaticSqlGenerationEnabled() {
+		return delegate.isDelayStaticSqlGenerationEnabled();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -285,6 +290,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isImmutableSnapshotCacheEntriesEnabled() {
+		return delegate.isImmutableSnapshotCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isCompactCollectionCacheEntriesEnabled() {
+		return delegate.isCompactCollectionCacheEntriesEnabled();
+	}
+
+	@Override
+	public boolean isCacheWriteBehindEnabled() {
+		return delegate.isCacheWriteBehindEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
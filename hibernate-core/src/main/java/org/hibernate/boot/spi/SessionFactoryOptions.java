@@ -144,6 +144,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	/**
+	 * Should the static SQL of entities be generated on first use, rather than
+	 * when the {@link org.hibernate.SessionFactory} is created?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DELAY_STATIC_SQL_GENERATION
+	 *
+	 * @since 7.0
+	 */
+	default boolean isDelayStaticSqlGenerationEnabled() {
+		return false;
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -181,6 +193,40 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * Should immutable entities be cached as shared snapshots of their state?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	default boolean isImmutableSnapshotCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should collections of identifiers be cached using a compact representation?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_COLLECTION_CACHE_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	default boolean isCompactCollectionCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the cache entries of inserted and updated entities be written in bulk
+	 * after the completion of the transaction?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_CACHE_WRITE_BEHIND
+	 *
+	 * @since 7.0
+	 */
+	default boolean isCacheWriteBehindEnabled() {
+		return false;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -0,0 +1,253 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+
+/**
+ * Base support for the {@link CachedDomainDataAccess} of a {@link NearCacheDomainDataRegion},
+ * answering reads from the {@link NearCache} when allowed by the {@linkplain AccessType access type},
+ * and invalidating it on every write going through this node.
+ *
+ * @see NearCacheRegionFactory
+ */
+abstract class AbstractNearCacheDataAccess<A extends CachedDomainDataAccess> implements CachedDomainDataAccess {
+	private final A delegate;
+	private final NavigableRole role;
+	private final NearCacheDomainDataRegion region;
+	private final NearCache nearCache;
+	private final AccessType accessType;
+	private final long timeToLive;
+
+	private volatile String[] querySpaces;
+
+	AbstractNearCacheDataAccess(A delegate, NavigableRole role, NearCacheDomainDataRegion region) {
+		this.delegate = delegate;
+		this.role = role;
+		this.region = region;
+		this.nearCache = region.getNearCache();
+		this.accessType = delegate.getAccessType();
+		this.timeToLive = region.getRegionFactory().getTimeToLive().toNanos();
+	}
+
+	protected A delegate() {
+		return delegate;
+	}
+
+	/**
+	 * The query spaces whose invalidation in the {@link org.hibernate.cache.spi.TimestampsCache}
+	 * makes the {@link AccessType#READ_WRITE} near-cached data stale
+	 */
+	protected abstract String[] resolveQuerySpaces(NavigableRole role, SessionFactoryImplementor factory);
+
+	private String[] getQuerySpaces(SessionFactoryImplementor factory) {
+		String[] spaces = querySpaces;
+		if ( spaces == null ) {
+			spaces = resolveQuerySpaces( role, factory );
+			querySpaces = spaces;
+		}
+		return spaces;
+	}
+
+	@Override
+	public NearCacheDomainDataRegion getRegion() {
+		return region;
+	}
+
+	@Override
+	public AccessType getAccessType() {
+		return accessType;
+	}
+
+	private boolean isNearCached() {
+		return accessType != AccessType.TRANSACTIONAL;
+	}
+
+	private boolean isUsable(Object key, NearCache.Entry entry, SharedSessionContractImplementor session) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				return true;
+			case NONSTRICT_READ_WRITE:
+				return !isExpired( entry );
+			case READ_WRITE:
+				// same rule as for the items of the decorated region
+				if ( session.getCacheTransactionSynchronization().getCachingTimestamp() <= entry.readEnd() ) {
+					return false;
+				}
+				// the timestamps region is usually remote as well, so it is only checked
+				// once the entry expired, to keep it for another time to live
+				return !isExpired( entry ) || isUpToDate( entry, session ) && nearCache.renew( key, entry );
+			default:
+				return false;
+		}
+	}
+
+	private boolean isExpired(NearCache.Entry entry) {
+		return System.nanoTime() - entry.storedAt() >= timeToLive;
+	}
+
+	private boolean isUpToDate(NearCache.Entry entry, SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		// the timestamps are only maintained when the query cache is enabled
+		return factory.getSessionFactoryOptions().isQueryCacheEnabled()
+				&& factory.getCache().getTimestampsCache()
+						.isUpToDate( getQuerySpaces( factory ), entry.readStart(), session );
+	}
+
+	@Override
+	public Object get(SharedSessionContractImplementor session, Object key) {
+		if ( !isNearCached() ) {
+			return delegate.get( session, key );
+		}
+
+		final NearCache.Entry entry = nearCache.get( key );
+		if ( entry != null && isUsable( key, entry, session ) ) {
+			return entry.value();
+		}
+
+		final long invalidations = nearCache.invalidations();
+		final long readStart = region.getRegionFactory().nextTimestamp();
+		final Object value = delegate.get( session, key );
+		if ( value != null ) {
+			nearCache.put( key, value, readStart, region.getRegionFactory().nextTimestamp(), invalidations );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( !isNearCached() ) {
+			return delegate.getAll( session, keys );
+		}
+
+		final Map<Object, Object> values = new HashMap<>();
+		final List<Object> misses = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final NearCache.Entry entry = nearCache.get( key );
+			if ( entry != null && isUsable( key, entry, session ) ) {
+				values.put( key, entry.value() );
+			}
+			else {
+				misses.add( key );
+			}
+		}
+
+		if ( !misses.isEmpty() ) {
+			final long invalidations = nearCache.invalidations();
+			final long readStart = region.getRegionFactory().nextTimestamp();
+			final Map<Object, Object> loaded = delegate.getAll( session, misses );
+			final long readEnd = region.getRegionFactory().nextTimestamp();
+			for ( Map.Entry<Object, Object> entry : loaded.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					nearCache.put( entry.getKey(), entry.getValue(), readStart, readEnd, invalidations );
+					values.put( entry.getKey(), entry.getValue() );
+				}
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public boolean putFromLoad(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final boolean put = delegate.putFromLoad( session, key, value, version );
+		nearCache.invalidate( key );
+		return put;
+	}
+
+	@Override
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		final boolean put = delegate.putFromLoad( session, key, value, version, minimalPutOverride );
+		nearCache.invalidate( key );
+		return put;
+	}
+
+	@Override
+	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final SoftLock lock = delegate.lockItem( session, key, version );
+		nearCache.invalidate( key );
+		return lock;
+	}
+
+	@Override
+	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		delegate.unlockItem( session, key, lock );
+		nearCache.invalidate( key );
+	}
+
+	@Override
+	public void remove(SharedSessionContractImplementor session, Object key) {
+		delegate.remove( session, key );
+		nearCache.invalidate( key );
+	}
+
+	@Override
+	public void removeAll(SharedSessionContractImplementor session) {
+		delegate.removeAll( session );
+		nearCache.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public SoftLock lockRegion() {
+		final SoftLock lock = delegate.lockRegion();
+		nearCache.clear();
+		return lock;
+	}
+
+	@Override
+	public void unlockRegion(SoftLock lock) {
+		delegate.unlockRegion( lock );
+		nearCache.clear();
+	}
+
+	@Override
+	public void evict(Object key) {
+		delegate.evict( key );
+		nearCache.invalidate( key );
+	}
+
+	@Override
+	public void evictAll() {
+		delegate.evictAll();
+		nearCache.clear();
+	}
+
+	/**
+	 * Invalidate the near-cached value of the given key after a write to the decorated region
+	 */
+	protected boolean invalidate(Object key, boolean result) {
+		nearCache.invalidate( key );
+		return result;
+	}
+
+	protected int invalidate(Object[] keys, int result) {
+		for ( Object key : keys ) {
+			nearCache.invalidate( key );
+		}
+		return result;
+	}
+}
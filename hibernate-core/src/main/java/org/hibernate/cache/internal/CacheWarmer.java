@@ -0,0 +1,390 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.jboss.logging.Logger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_AWAIT;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_QUERY_PREFIX;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_SNAPSHOT_DIRECTORY;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_THREADS;
+
+/**
+ * Loads entities into their second level cache regions when the {@code SessionFactory}
+ * is created, so that the first requests after a restart do not all hit the database.
+ * <p>
+ * The identifiers of the entities to load are obtained from a query executed in a
+ * {@link StatelessSession}, and from a snapshot of the identifiers of the most recently
+ * loaded instances written when the {@code SessionFactory} was last closed. They are
+ * then loaded in batches, in parallel, through multi-loads which skip the entities
+ * already present in the cache.
+ * <p>
+ * Unless {@value org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_AWAIT} is enabled,
+ * the cache is warmed in the background, and the progress is logged.
+ *
+ * @see CacheWarmingIntegrator
+ */
+class CacheWarmer implements SessionFactoryObserver, PostLoadEventListener {
+	private static final Logger LOG = Logger.getLogger( CacheWarmer.class );
+
+	private static final String SNAPSHOT_FILE_SUFFIX = ".ids";
+
+	private final Map<String, String> queries;
+	private final Map<String, Integer> snapshotSizes;
+	private final Path snapshotDirectory;
+	private final int threads;
+	private final int batchSize;
+	private final boolean await;
+
+	// the most recently loaded identifiers, by root entity name
+	private volatile Map<String, Map<Object, Boolean>> recentlyLoaded = emptyMap();
+	private volatile ExecutorService executor;
+
+	private CacheWarmer(
+			Map<String, String> queries,
+			Map<String, Integer> snapshotSizes,
+			Path snapshotDirectory,
+			int threads,
+			int batchSize,
+			boolean await) {
+		this.queries = queries;
+		this.snapshotSizes = snapshotSizes;
+		this.snapshotDirectory = snapshotDirectory;
+		this.threads = threads;
+		this.batchSize = batchSize;
+		this.await = await;
+	}
+
+	/**
+	 * @return the {@code CacheWarmer} configured by the given settings,
+	 * or {@code null} if cache warming is not configured
+	 */
+	static CacheWarmer fromSettings(Map<String, Object> settings) {
+		final String queryPrefix = CACHE_WARMUP_QUERY_PREFIX + '.';
+		final String snapshotSizePrefix = CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX + '.';
+		final Map<String, String> queries = new HashMap<>();
+		final Map<String, Integer> snapshotSizes = new HashMap<>();
+		for ( String name : settings.keySet() ) {
+			if ( name.startsWith( queryPrefix ) ) {
+				queries.put( name.substring( queryPrefix.length() ), ConfigurationHelper.getString( name, settings ) );
+			}
+			else if ( name.startsWith( snapshotSizePrefix ) ) {
+				final int size = ConfigurationHelper.getInt( name, settings, 0 );
+				if ( size > 0 ) {
+					snapshotSizes.put( name.substring( snapshotSizePrefix.length() ), size );
+				}
+			}
+		}
+		if ( queries.isEmpty() && snapshotSizes.isEmpty() ) {
+			return null;
+		}
+
+		final String snapshotDirectory = ConfigurationHelper.getString( CACHE_WARMUP_SNAPSHOT_DIRECTORY, settings );
+		if ( !snapshotSizes.isEmpty() && snapshotDirectory == null ) {
+			throw new ConfigurationException(
+					"Setting '" + CACHE_WARMUP_SNAPSHOT_DIRECTORY + "' is required by '"
+							+ CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX + "' settings"
+			);
+		}
+		return new CacheWarmer(
+				queries,
+				snapshotSizes,
+				snapshotDirectory == null ? null : Paths.get( snapshotDirectory ),
+				Math.max( 1, ConfigurationHelper.getInt( CACHE_WARMUP_THREADS, settings, 2 ) ),
+				Math.max( 1, ConfigurationHelper.getInt( CACHE_WARMUP_BATCH_SIZE, settings, 100 ) ),
+				ConfigurationHelper.getBoolean( CACHE_WARMUP_AWAIT, settings, false )
+		);
+	}
+
+	/**
+	 * Should the identifiers of loaded entities be tracked for the snapshots?
+	 */
+	boolean isTrackingLoads() {
+		return !snapshotSizes.isEmpty();
+	}
+
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		final Map<Object, Boolean> identifiers = recentlyLoaded.get( event.getPersister().getRootEntityName() );
+		if ( identifiers != null ) {
+			identifiers.put( event.getId(), Boolean.TRUE );
+		}
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final MappingMetamodel metamodel = sessionFactory.getMappingMetamodel();
+
+		final Map<String, Map<Object, Boolean>> recentlyLoaded = new HashMap<>();
+		for ( Map.Entry<String, Integer> snapshotSize : snapshotSizes.entrySet() ) {
+			final EntityPersister persister = resolveCachedEntity( snapshotSize.getKey(), metamodel );
+			if ( persister != null ) {
+				if ( persister.getIdentifierType() instanceof BasicType ) {
+					recentlyLoaded.put(
+							persister.getRootEntityName(),
+							new BoundedConcurrentHashMap<>(
+									snapshotSize.getValue(),
+									16,
+									BoundedConcurrentHashMap.Eviction.LRU
+							)
+					);
+				}
+				else {
+					LOG.warnf( "Unable to take snapshots of '%s', which has a composite identifier", snapshotSize.getKey() );
+				}
+			}
+		}
+		this.recentlyLoaded = recentlyLoaded;
+
+		final Map<String, EntityPersister> persisters = new HashMap<>();
+		for ( String entityName : queries.keySet() ) {
+			final EntityPersister persister = resolveCachedEntity( entityName, metamodel );
+			if ( persister != null ) {
+				persisters.put( persister.getRootEntityName(), persister );
+			}
+		}
+		for ( String rootEntityName : recentlyLoaded.keySet() ) {
+			persisters.put( rootEntityName, metamodel.getEntityDescriptor( rootEntityName ) );
+		}
+		if ( persisters.isEmpty() ) {
+			return;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool( threads, new CacheWarmerThreadFactory() );
+		this.executor = executor;
+		final List<CompletableFuture<?>> warmings = new ArrayList<>( persisters.size() );
+		for ( EntityPersister persister : persisters.values() ) {
+			warmings.add( warm( persister, sessionFactory, executor ) );
+		}
+		final CompletableFuture<Void> warming = CompletableFuture.allOf( warmings.toArray( new CompletableFuture[0] ) )
+				.whenComplete( (result, failure) -> executor.shutdown() );
+		if ( await ) {
+			try {
+				warming.join();
+			}
+			catch (CompletionException e) {
+				// already logged
+			}
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final ExecutorService executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+		final MappingMetamodel metamodel = ( (SessionFactoryImplementor) factory ).getMappingMetamodel();
+		for ( Map.Entry<String, Map<Object, Boolean>> identifiers : recentlyLoaded.entrySet() ) {
+			if ( !identifiers.getValue().isEmpty() ) {
+				writeSnapshot( metamodel.getEntityDescriptor( identifiers.getKey() ), identifiers.getValue().keySet() );
+			}
+		}
+	}
+
+	private EntityPersister resolveCachedEntity(String entityName, MappingMetamodel metamodel) {
+		final EntityPersister persister = metamodel.findEntityDescriptor( metamodel.getImportedName( entityName ) );
+		if ( persister == null || !persister.canWriteToCache() ) {
+			LOG.warnf( "Unable to warm the cache of '%s', which is not a cached entity", entityName );
+			return null;
+		}
+		return persister;
+	}
+
+	private CompletableFuture<?> warm(
+			EntityPersister persister,
+			SessionFactoryImplementor sessionFactory,
+			ExecutorService executor) {
+		final String entityName = persister.getRootEntityName();
+		final long start = System.nanoTime();
+		return CompletableFuture.supplyAsync( () -> identifiersToLoad( persister, sessionFactory ), executor )
+				.thenCompose( identifiers -> {
+					final int total = identifiers.size();
+					final AtomicInteger loaded = new AtomicInteger();
+					final List<CompletableFuture<?>> batches = new ArrayList<>();
+					List<Object> batch = new ArrayList<>( batchSize );
+					for ( Object id : identifiers ) {
+						batch.add( id );
+						if ( batch.size() == batchSize ) {
+							batches.add( loadBatch( entityName, batch, total, loaded, sessionFactory, executor ) );
+							batch = new ArrayList<>( batchSize );
+						}
+					}
+					if ( !batch.isEmpty() ) {
+						batches.add( loadBatch( entityName, batch, total, loaded, sessionFactory, executor ) );
+					}
+					return CompletableFuture.allOf( batches.toArray( new CompletableFuture[0] ) );
+				} )
+				.whenComplete( (result, failure) -> {
+					if ( failure == null ) {
+						LOG.infof(
+								"Warmed the cache of '%s' in %s ms",
+								entityName,
+								( System.nanoTime() - start ) / 1_000_000
+						);
+					}
+					else {
+						LOG.warnf( failure, "Unable to warm the cache of '%s'", entityName );
+					}
+				} );
+	}
+
+	private CompletableFuture<?> loadBatch(
+			String entityName,
+			List<Object> batch,
+			int total,
+			AtomicInteger loaded,
+			SessionFactoryImplementor sessionFactory,
+			ExecutorService executor) {
+		return CompletableFuture.runAsync(
+				() -> {
+					try ( Session session = sessionFactory.openSession() ) {
+						session.setCacheMode( CacheMode.NORMAL );
+						// entities already in the cache are neither loaded nor put again
+						session.byMultipleIds( entityName )
+								.with( CacheMode.NORMAL )
+								.enableOrderedReturn( false )
+								.multiLoad( batch );
+					}
+					LOG.debugf(
+							"Warmed %s of %s entries of the cache of '%s'",
+							loaded.addAndGet( batch.size() ),
+							total,
+							entityName
+					);
+				},
+				executor
+		);
+	}
+
+	private Collection<Object> identifiersToLoad(EntityPersister persister, SessionFactoryImplementor sessionFactory) {
+		final Set<Object> identifiers = new LinkedHashSet<>( readSnapshot( persister ) );
+		final String query = findQuery( persister );
+		if ( query != null ) {
+			try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+				identifiers.addAll( session.createSelectionQuery( query, Object.class ).getResultList() );
+			}
+		}
+		return identifiers;
+	}
+
+	private String findQuery(EntityPersister persister) {
+		final MappingMetamodel metamodel = persister.getFactory().getMappingMetamodel();
+		for ( Map.Entry<String, String> query : queries.entrySet() ) {
+			final EntityPersister configured =
+					metamodel.findEntityDescriptor( metamodel.getImportedName( query.getKey() ) );
+			if ( configured != null && configured.getRootEntityName().equals( persister.getRootEntityName() ) ) {
+				return query.getValue();
+			}
+		}
+		return null;
+	}
+
+	private Path snapshotFile(EntityPersister persister) {
+		return snapshotDirectory.resolve( persister.getRootEntityName() + SNAPSHOT_FILE_SUFFIX );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JavaType<Object> identifierJavaType(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		return (JavaType<Object>) ( (BasicType<?>) identifierType ).getJavaTypeDescriptor();
+	}
+
+	private List<Object> readSnapshot(EntityPersister persister) {
+		if ( !recentlyLoaded.containsKey( persister.getRootEntityName() ) ) {
+			return emptyList();
+		}
+		final Path file = snapshotFile( persister );
+		if ( !Files.exists( file ) ) {
+			return emptyList();
+		}
+		final JavaType<Object> javaType = identifierJavaType( persister );
+		try {
+			final List<String> lines = Files.readAllLines( file );
+			final List<Object> identifiers = new ArrayList<>( lines.size() );
+			for ( String line : lines ) {
+				identifiers.add( javaType.fromString( line ) );
+			}
+			return identifiers;
+		}
+		catch (IOException | RuntimeException e) {
+			LOG.warnf( e, "Unable to read the cache warming snapshot '%s'", file );
+			return emptyList();
+		}
+	}
+
+	private void writeSnapshot(EntityPersister persister, Set<Object> identifiers) {
+		final Path file = snapshotFile( persister );
+		final JavaType<Object> javaType = identifierJavaType( persister );
+		final List<String> lines = new ArrayList<>( identifiers.size() );
+		for ( Object id : identifiers ) {
+			final String line = javaType.toString( id );
+			if ( line.indexOf( '\n' ) < 0 && line.indexOf( '\r' ) < 0 ) {
+				lines.add( line );
+			}
+		}
+		try {
+			Files.createDirectories( snapshotDirectory );
+			Files.write( file, lines );
+		}
+		catch (IOException e) {
+			LOG.warnf( e, "Unable to write the cache warming snapshot '%s'", file );
+		}
+	}
+
+	private static class CacheWarmerThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Cache Warmer Thread " + count.incrementAndGet() );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers a {@link CacheWarmer} with every {@code SessionFactory} for which
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_QUERY_PREFIX} or
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX}
+ * properties are specified.
+ */
+public class CacheWarmingIntegrator implements Integrator {
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled() ) {
+			// Nothing to do, if caching is disabled
+			return;
+		}
+		final CacheWarmer cacheWarmer = CacheWarmer.fromSettings(
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings()
+		);
+		if ( cacheWarmer != null ) {
+			sessionFactory.addObserver( cacheWarmer );
+			if ( cacheWarmer.isTrackingLoads() ) {
+				sessionFactory.getServiceRegistry().requireService( EventListenerRegistry.class )
+						.appendListeners( EventType.POST_LOAD, cacheWarmer );
+			}
+		}
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+	}
+}
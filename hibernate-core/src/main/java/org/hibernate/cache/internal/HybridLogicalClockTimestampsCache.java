@@ -0,0 +1,294 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.HybridLogicalClock;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Implementation of {@link TimestampsCache} meant for a timestamps region
+ * shared by several nodes, whose clocks might be skewed.
+ * <p>
+ * The invalidation timestamps are generated by a {@link HybridLogicalClock},
+ * which is kept in sync with the clocks of the other nodes through an extra
+ * entry of the timestamps region. Each node publishes its timestamp in this
+ * entry when invalidating query spaces and before executing a query whose
+ * results are to be cached, and merges the timestamp of the entry into its own
+ * clock whenever it reads it. An invalidation is thus stamped after the caching
+ * timestamp of all the queries executed by the nodes beforehand, even if the
+ * clock of the invalidating node is behind, so that their results are stale.
+ * <p>
+ * The clock entry is only ever advanced, through the atomic conditional puts of
+ * the region, so that no published timestamp is lost when several nodes write it
+ * concurrently. A timestamps region which does not
+ * {@linkplain TimestampsRegion#supportsConditionalPuts() support conditional puts}
+ * is hence rejected. As for any timestamps region, its entries must not expire
+ * nor be evicted.
+ * <p>
+ * Each (pre-)invalidation is written as a single bulk put of the timestamps
+ * of all the query spaces, and each up-to-date check as a single bulk get.
+ */
+public class HybridLogicalClockTimestampsCache implements TimestampsCache {
+	private static final Logger log = Logger.getLogger( HybridLogicalClockTimestampsCache.class );
+
+	/**
+	 * The key of the timestamps region entry holding the clock shared by the nodes
+	 */
+	public static final String CLOCK_KEY = "org.hibernate.cache.timestamps.clock";
+
+	private final TimestampsRegion timestampsRegion;
+	private final RegionFactory regionFactory;
+	private final HybridLogicalClock clock;
+	/**
+	 * The highest value of the shared clock known to this node, used to avoid
+	 * publishing timestamps which were already superseded
+	 */
+	private final AtomicLong knownSharedClock = new AtomicLong();
+
+	public HybridLogicalClockTimestampsCache(TimestampsRegion timestampsRegion, RegionFactory regionFactory) {
+		if ( !timestampsRegion.supportsConditionalPuts() ) {
+			throw new CacheException(
+					"Timestamps region '" + timestampsRegion.getName()
+							+ "' does not support the conditional puts required by the hybrid logical clock"
+			);
+		}
+		this.timestampsRegion = timestampsRegion;
+		this.regionFactory = regionFactory;
+		this.clock = new HybridLogicalClock( regionFactory::nextTimestamp );
+	}
+
+	@Override
+	public TimestampsRegion getRegion() {
+		return timestampsRegion;
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		if ( spaces.length > 0 ) {
+			// the timeout must not be published, since it would push all the clocks ahead
+			final long ts = clock.now() + regionFactory.getTimeout();
+			final Map<Object, Object> timestamps = new HashMap<>();
+			for ( String space : spaces ) {
+				timestamps.put( space, ts );
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Pre-invalidating spaces %s, timestamp: %s", Arrays.toString( spaces ), ts );
+			}
+			putIntoCache( timestamps, spaces.length, EventManager.CacheActionDescription.TIMESTAMP_PRE_INVALIDATE, session );
+		}
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		if ( spaces.length > 0 ) {
+			final long ts = advanceSharedClock( session );
+			final Map<Object, Object> timestamps = new HashMap<>();
+			for ( String space : spaces ) {
+				timestamps.put( space, ts );
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Invalidating spaces %s, timestamp: %s", Arrays.toString( spaces ), ts );
+			}
+			putIntoCache( timestamps, spaces.length, EventManager.CacheActionDescription.TIMESTAMP_INVALIDATE, session );
+		}
+	}
+
+	@Override
+	public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+		final List<Object> keys = new ArrayList<>( spaces.size() + 1 );
+		keys.addAll( spaces );
+		// only catch up with the other nodes when the results are ahead of the local clock
+		final boolean readClock = clock.current() < timestamp;
+		if ( readClock ) {
+			keys.add( CLOCK_KEY );
+		}
+		final Map<Object, Object> timestamps = getFromCache( keys, session );
+
+		final Long sharedClock = readClock ? (Long) timestamps.get( CLOCK_KEY ) : null;
+		if ( sharedClock != null ) {
+			clock.update( sharedClock );
+			knownSharedClock.accumulateAndGet( sharedClock, Math::max );
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		boolean upToDate = true;
+		for ( String space : spaces ) {
+			final Long lastUpdate = (Long) timestamps.get( space );
+			if ( lastUpdate == null ) {
+				// the last update timestamp for the given space was evicted from the
+				// cache or there have been no writes to it since startup
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.updateTimestampsCacheMiss();
+				}
+			}
+			else {
+				if ( log.isDebugEnabled() ) {
+					log.debugf( "[%s] last update timestamp: %s, result set timestamp: %s", space, lastUpdate, timestamp );
+				}
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.updateTimestampsCacheHit();
+				}
+				if ( lastUpdate >= timestamp ) {
+					upToDate = false;
+				}
+			}
+		}
+		return upToDate;
+	}
+
+	@Override
+	public void beforeCacheableQueryExecution(long timestamp, SharedSessionContractImplementor session) {
+		if ( knownSharedClock.get() < timestamp ) {
+			publish( timestamp, session );
+		}
+	}
+
+	@Override
+	public void beforeQueryResultsCached(long timestamp, SharedSessionContractImplementor session) {
+		if ( knownSharedClock.get() < timestamp ) {
+			publish( timestamp, session );
+		}
+	}
+
+	/**
+	 * Publishes the given timestamp in the shared clock, unless the clock is already
+	 * ahead, so that later invalidations by other nodes are stamped after it.
+	 */
+	private void publish(long timestamp, SharedSessionContractImplementor session) {
+		Object sharedClock = getFromCache( List.of( CLOCK_KEY ), session ).get( CLOCK_KEY );
+		while ( sharedClock == null || (Long) sharedClock < timestamp ) {
+			if ( compareAndSetSharedClock(
+					(Long) sharedClock,
+					timestamp,
+					EventManager.CacheActionDescription.QUERY_RESULT,
+					session
+			) ) {
+				clock.update( timestamp );
+				knownSharedClock.accumulateAndGet( timestamp, Math::max );
+				return;
+			}
+			sharedClock = getFromCache( List.of( CLOCK_KEY ), session ).get( CLOCK_KEY );
+		}
+		clock.update( (Long) sharedClock );
+		knownSharedClock.accumulateAndGet( (Long) sharedClock, Math::max );
+	}
+
+	/**
+	 * Advances the shared clock past its current value and the local clock, and
+	 * returns the new value, to stamp an invalidation.
+	 */
+	private long advanceSharedClock(SharedSessionContractImplementor session) {
+		Long sharedClock = (Long) getFromCache( List.of( CLOCK_KEY ), session ).get( CLOCK_KEY );
+		while ( true ) {
+			final long ts = sharedClock == null ? clock.now() : clock.update( sharedClock );
+			if ( compareAndSetSharedClock(
+					sharedClock,
+					ts,
+					EventManager.CacheActionDescription.TIMESTAMP_INVALIDATE,
+					session
+			) ) {
+				knownSharedClock.accumulateAndGet( ts, Math::max );
+				return ts;
+			}
+			// another node advanced the clock in the meantime
+			sharedClock = (Long) getFromCache( List.of( CLOCK_KEY ), session ).get( CLOCK_KEY );
+		}
+	}
+
+	private boolean compareAndSetSharedClock(
+			Long expected,
+			long timestamp,
+			EventManager.CacheActionDescription description,
+			SharedSessionContractImplementor session) {
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		boolean put = false;
+		try {
+			eventListenerManager.cachePutStart();
+			put = expected == null
+					? timestampsRegion.putIfAbsentIntoCache( CLOCK_KEY, timestamp, session ) == null
+					: timestampsRegion.replaceInCache( CLOCK_KEY, expected, timestamp, session );
+		}
+		finally {
+			eventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					timestampsRegion,
+					put,
+					description
+			);
+			eventListenerManager.cachePutEnd();
+		}
+		return put;
+	}
+
+	private Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		Map<Object, Object> timestamps = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		try {
+			eventListenerManager.cacheGetStart();
+			timestamps = timestampsRegion.getAllFromCache( keys, session );
+		}
+		finally {
+			final boolean hit = timestamps != null && !timestamps.isEmpty();
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, timestampsRegion, hit );
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return timestamps;
+	}
+
+	private void putIntoCache(
+			Map<?, ?> timestamps,
+			int numberOfSpaces,
+			EventManager.CacheActionDescription description,
+			SharedSessionContractImplementor session) {
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventManager.completeCachePutEvent( cachePutEvent, session, timestampsRegion, true, description );
+			eventListenerManager.cachePutEnd();
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			for ( int i = 0; i < numberOfSpaces; i++ ) {
+				statistics.updateTimestampsCachePut();
+			}
+		}
+	}
+}
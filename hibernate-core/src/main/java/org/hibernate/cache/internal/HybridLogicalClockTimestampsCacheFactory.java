@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * Implementation of {@link TimestampsCacheFactory} returning instances of
+ * {@link HybridLogicalClockTimestampsCache}, for timestamps regions shared
+ * by several nodes.
+ *
+ * @since 7.0
+ */
+@Incubating
+public class HybridLogicalClockTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final HybridLogicalClockTimestampsCacheFactory INSTANCE = new HybridLogicalClockTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		return new HybridLogicalClockTimestampsCache( timestampsRegion, cacheManager.getRegionFactory() );
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * The size-bounded local store of a {@link NearCacheDomainDataRegion}.
+ * <p>
+ * Every invalidation is counted, so that a value read from the decorated region
+ * concurrently with an invalidation of its key is never stored.
+ *
+ * @see NearCacheRegionFactory
+ */
+class NearCache {
+	private final BoundedConcurrentHashMap<Object, Entry> entries;
+	private final AtomicLong invalidations = new AtomicLong();
+
+	NearCache(int maxEntries) {
+		this.entries = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+	}
+
+	Entry get(Object key) {
+		return entries.get( key );
+	}
+
+	/**
+	 * The number of invalidations so far, to be passed to {@link #put} for a value read afterwards
+	 */
+	long invalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Store the value read from the decorated region, unless the cache was invalidated since
+	 * the given number of {@link #invalidations()} was obtained.
+	 */
+	void put(Object key, Object value, long readStart, long readEnd, long expectedInvalidations) {
+		if ( invalidations.get() == expectedInvalidations ) {
+			entries.put( key, new Entry( value, readStart, readEnd, System.nanoTime() ) );
+			// an invalidation might have happened in between
+			if ( invalidations.get() != expectedInvalidations ) {
+				entries.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Store the given entry again, as of now, unless it was invalidated in the meantime
+	 *
+	 * @return whether the entry was renewed
+	 */
+	boolean renew(Object key, Entry entry) {
+		return entries.replace(
+				key,
+				entry,
+				new Entry( entry.value(), entry.readStart(), entry.readEnd(), System.nanoTime() )
+		);
+	}
+
+	void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		entries.remove( key );
+	}
+
+	void clear() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	/**
+	 * A near-cached value.
+	 *
+	 * @param value the value read from the decorated region
+	 * @param readStart the {@linkplain org.hibernate.cache.spi.RegionFactory#nextTimestamp() timestamp}
+	 * before the value was read
+	 * @param readEnd the {@linkplain org.hibernate.cache.spi.RegionFactory#nextTimestamp() timestamp}
+	 * after the value was read
+	 * @param storedAt the {@linkplain System#nanoTime() time} at which the value was stored
+	 */
+	record Entry(Object value, long readStart, long readEnd, long storedAt) {
+	}
+}
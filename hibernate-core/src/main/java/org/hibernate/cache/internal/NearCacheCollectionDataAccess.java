@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * Near-cached {@link CollectionDataAccess}
+ *
+ * @see NearCacheRegionFactory
+ */
+class NearCacheCollectionDataAccess extends AbstractNearCacheDataAccess<CollectionDataAccess>
+		implements CollectionDataAccess {
+	NearCacheCollectionDataAccess(CollectionDataAccess delegate, NavigableRole role, NearCacheDomainDataRegion region) {
+		super( delegate, role, region );
+	}
+
+	@Override
+	protected String[] resolveQuerySpaces(NavigableRole role, SessionFactoryImplementor factory) {
+		return factory.getMappingMetamodel().getCollectionDescriptor( role.getFullPath() ).getCollectionSpaces();
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			CollectionPersister collectionDescriptor,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return delegate().generateCacheKey( id, collectionDescriptor, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return delegate().getCacheKeyId( cacheKey );
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+
+import static org.hibernate.stat.CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+
+/**
+ * A {@link DomainDataRegion} keeping a {@link NearCache} in front of
+ * the region built by the decorated factory.
+ *
+ * @see NearCacheRegionFactory
+ */
+class NearCacheDomainDataRegion implements DomainDataRegion, ExtendedStatisticsSupport {
+	private final DomainDataRegion delegate;
+	private final NearCacheRegionFactory regionFactory;
+	private final NearCache nearCache;
+
+	private final Map<NavigableRole, EntityDataAccess> entityAccesses = new ConcurrentHashMap<>();
+	private final Map<NavigableRole, NaturalIdDataAccess> naturalIdAccesses = new ConcurrentHashMap<>();
+	private final Map<NavigableRole, CollectionDataAccess> collectionAccesses = new ConcurrentHashMap<>();
+
+	NearCacheDomainDataRegion(DomainDataRegion delegate, NearCacheRegionFactory regionFactory) {
+		this.delegate = delegate;
+		this.regionFactory = regionFactory;
+		this.nearCache = new NearCache( regionFactory.getMaxEntries() );
+	}
+
+	NearCache getNearCache() {
+		return nearCache;
+	}
+
+	@Override
+	public EntityDataAccess getEntityDataAccess(NavigableRole rootEntityRole) {
+		return entityAccesses.computeIfAbsent(
+				rootEntityRole,
+				role -> {
+					final EntityDataAccess access = delegate.getEntityDataAccess( role );
+					return access == null ? null : new NearCacheEntityDataAccess( access, role, this );
+				}
+		);
+	}
+
+	@Override
+	public NaturalIdDataAccess getNaturalIdDataAccess(NavigableRole rootEntityRole) {
+		return naturalIdAccesses.computeIfAbsent(
+				rootEntityRole,
+				role -> {
+					final NaturalIdDataAccess access = delegate.getNaturalIdDataAccess( role );
+					return access == null ? null : new NearCacheNaturalIdDataAccess( access, role, this );
+				}
+		);
+	}
+
+	@Override
+	public CollectionDataAccess getCollectionDataAccess(NavigableRole collectionRole) {
+		return collectionAccesses.computeIfAbsent(
+				collectionRole,
+				role -> {
+					final CollectionDataAccess access = delegate.getCollectionDataAccess( role );
+					return access == null ? null : new NearCacheCollectionDataAccess( access, role, this );
+				}
+		);
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public NearCacheRegionFactory getRegionFactory() {
+		return regionFactory;
+	}
+
+	@Override
+	public void clear() {
+		nearCache.clear();
+		delegate.clear();
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		nearCache.clear();
+		delegate.destroy();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport extendedStatistics
+				? extendedStatistics.getElementCountInMemory()
+				: NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return delegate instanceof ExtendedStatisticsSupport extendedStatistics
+				? extendedStatistics.getElementCountOnDisk()
+				: NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return delegate instanceof ExtendedStatisticsSupport extendedStatistics
+				? extendedStatistics.getSizeInMemory()
+				: NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Near-cached {@link EntityDataAccess}
+ *
+ * @see NearCacheRegionFactory
+ */
+class NearCacheEntityDataAccess extends AbstractNearCacheDataAccess<EntityDataAccess> implements EntityDataAccess {
+	NearCacheEntityDataAccess(EntityDataAccess delegate, NavigableRole role, NearCacheDomainDataRegion region) {
+		super( delegate, role, region );
+	}
+
+	@Override
+	protected String[] resolveQuerySpaces(NavigableRole role, SessionFactoryImplementor factory) {
+		return factory.getMappingMetamodel().getEntityDescriptor( role.getFullPath() ).getSynchronizationSpaces();
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			EntityPersister rootEntityDescriptor,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return delegate().generateCacheKey( id, rootEntityDescriptor, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return delegate().getCacheKeyId( cacheKey );
+	}
+
+	@Override
+	public boolean insert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return invalidate( key, delegate().insert( session, key, value, version ) );
+	}
+
+	@Override
+	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return invalidate( key, delegate().afterInsert( session, key, value, version ) );
+	}
+
+	@Override
+	public boolean update(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) {
+		return invalidate( key, delegate().update( session, key, value, currentVersion, previousVersion ) );
+	}
+
+	@Override
+	public boolean afterUpdate(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) {
+		return invalidate( key, delegate().afterUpdate( session, key, value, currentVersion, previousVersion, lock ) );
+	}
+
+	@Override
+	public int afterInsertAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		return invalidate( keys, delegate().afterInsertAll( session, keys, values, versions ) );
+	}
+
+	@Override
+	public int afterUpdateAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] currentVersions,
+			Object[] previousVersions,
+			SoftLock[] locks) {
+		return invalidate(
+				keys,
+				delegate().afterUpdateAll( session, keys, values, currentVersions, previousVersions, locks )
+		);
+	}
+}
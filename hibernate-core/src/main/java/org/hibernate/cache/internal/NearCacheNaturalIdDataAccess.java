@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Near-cached {@link NaturalIdDataAccess}
+ *
+ * @see NearCacheRegionFactory
+ */
+class NearCacheNaturalIdDataAccess extends AbstractNearCacheDataAccess<NaturalIdDataAccess>
+		implements NaturalIdDataAccess {
+	NearCacheNaturalIdDataAccess(NaturalIdDataAccess delegate, NavigableRole role, NearCacheDomainDataRegion region) {
+		super( delegate, role, region );
+	}
+
+	@Override
+	protected String[] resolveQuerySpaces(NavigableRole role, SessionFactoryImplementor factory) {
+		return factory.getMappingMetamodel().getEntityDescriptor( role.getFullPath() ).getSynchronizationSpaces();
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object naturalIdValues,
+			EntityPersister rootEntityDescriptor,
+			SharedSessionContractImplementor session) {
+		return delegate().generateCacheKey( naturalIdValues, rootEntityDescriptor, session );
+	}
+
+	@Override
+	public Object getNaturalIdValues(Object cacheKey) {
+		return delegate().getNaturalIdValues( cacheKey );
+	}
+
+	@Override
+	public boolean insert(SharedSessionContractImplementor session, Object key, Object value) {
+		return invalidate( key, delegate().insert( session, key, value ) );
+	}
+
+	@Override
+	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		return invalidate( key, delegate().afterInsert( session, key, value ) );
+	}
+
+	@Override
+	public boolean update(SharedSessionContractImplementor session, Object key, Object value) {
+		return invalidate( key, delegate().update( session, key, value ) );
+	}
+
+	@Override
+	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		return invalidate( key, delegate().afterUpdate( session, key, value, lock ) );
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link RegionFactory} decorator keeping a small, size-bounded near-cache of
+ * the hot entries of every {@link DomainDataRegion} in local memory, in front of
+ * the regions of the decorated factory, which are typically remote or clustered.
+ * <p>
+ * A near-cache hit returns the already deserialized cache entry without accessing
+ * the decorated region. The entries are invalidated by the writes and soft-lock
+ * callbacks going through this node, and the consistency with the writes of other
+ * nodes depends on the {@linkplain AccessType access type}:
+ * <ul>
+ *     <li>{@link AccessType#READ_ONLY} entries are kept until evicted,
+ *     <li>{@link AccessType#NONSTRICT_READ_WRITE} entries are kept for the
+ *         {@linkplain #getTimeToLive() time to live},
+ *     <li>{@link AccessType#READ_WRITE} entries are kept for the time to live,
+ *         and are only used when the {@link org.hibernate.cache.spi.TimestampsCache}
+ *         reports that their query spaces were not invalidated since they were cached,
+ *     <li>{@link AccessType#TRANSACTIONAL} data is never near-cached.
+ * </ul>
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL
+ */
+public class NearCacheRegionFactory implements RegionFactory {
+	private final RegionFactory delegate;
+	private final int maxEntries;
+	private final Duration timeToLive;
+
+	public NearCacheRegionFactory(RegionFactory delegate, int maxEntries, Duration timeToLive) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "The maximum number of near-cache entries must be positive" );
+		}
+		this.delegate = delegate;
+		this.maxEntries = maxEntries;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * The decorated {@link RegionFactory}
+	 */
+	public RegionFactory getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * The maximum number of entries kept locally for each region
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * How long the entries of mutable data are kept locally
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	@Override
+	public void start(SessionFactoryOptions settings, Map<String, Object> configValues) throws CacheException {
+		delegate.start( settings, configValues );
+	}
+
+	@Override
+	public void stop() {
+		delegate.stop();
+	}
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return delegate.isMinimalPutsEnabledByDefault();
+	}
+
+	@Override
+	public AccessType getDefaultAccessType() {
+		return delegate.getDefaultAccessType();
+	}
+
+	@Override
+	public String qualify(String regionName) {
+		return delegate.qualify( regionName );
+	}
+
+	@Override
+	public CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
+		return delegate.createTransactionContext( session );
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return delegate.nextTimestamp();
+	}
+
+	@Override
+	public long getTimeout() {
+		return delegate.getTimeout();
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new NearCacheDomainDataRegion(
+				delegate.buildDomainDataRegion( regionConfig, buildingContext ),
+				this
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		return delegate.buildQueryResultsRegion( regionName, sessionFactory );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		return delegate.buildTimestampsRegion( regionName, sessionFactory );
+	}
+}
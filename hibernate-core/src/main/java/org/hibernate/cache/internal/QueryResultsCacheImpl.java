@@ -58,10 +58,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 					session.getCacheTransactionSynchronization().getCachingTimestamp() );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getCacheTransactionSynchronization().getCachingTimestamp(),
-				deepCopy( results )
-		);
+		final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		timestampsCache.beforeQueryResultsCached( timestamp, session );
+
+		final CacheItem cacheItem = new CacheItem( timestamp, deepCopy( results ) );
 
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
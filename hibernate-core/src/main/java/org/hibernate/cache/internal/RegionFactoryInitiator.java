@@ -6,6 +6,7 @@
  */
 package org.hibernate.cache.internal;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Properties;
@@ -15,6 +16,7 @@ import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -37,6 +39,8 @@ public class RegionFactoryInitiator implements StandardServiceInitiator<RegionFa
 	 */
 	public static final RegionFactoryInitiator INSTANCE = new RegionFactoryInitiator();
 
+	private static final int DEFAULT_NEAR_CACHE_TTL = 1000;
+
 	@Override
 	public Class<RegionFactory> getServiceInitiated() {
 		return RegionFactory.class;
@@ -48,9 +52,25 @@ public class RegionFactoryInitiator implements StandardServiceInitiator<RegionFa
 
 		if ( regionFactory instanceof NoCachingRegionFactory ) {
 			LOG.noRegionFactory();
+			return regionFactory;
 		}
-		else {
-			LOG.regionFactory( regionFactory.getClass().getTypeName() );
+
+		LOG.regionFactory( regionFactory.getClass().getTypeName() );
+
+		final int nearCacheMaxEntries =
+				ConfigurationHelper.getInt( CacheSettings.NEAR_CACHE_MAX_ENTRIES, configurationValues, 0 );
+		if ( nearCacheMaxEntries > 0 ) {
+			final long nearCacheTimeToLive = ConfigurationHelper.getLong(
+					CacheSettings.NEAR_CACHE_TTL,
+					configurationValues,
+					DEFAULT_NEAR_CACHE_TTL
+			);
+			LOG.debugf( "Using a near-cache of %s entries per domain data region", nearCacheMaxEntries );
+			return new NearCacheRegionFactory(
+					regionFactory,
+					nearCacheMaxEntries,
+					Duration.ofMillis( nearCacheTimeToLive )
+			);
 		}
 
 		return regionFactory;
@@ -6,6 +6,25 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
 /**
  * @author Steve Ebersole
  */
@@ -13,6 +32,12 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 	private long lastTransactionCompletionTimestamp;
 	private final RegionFactory regionFactory;
 
+	/**
+	 * The cache entries written behind the current transaction, by region access
+	 */
+	private Map<EntityDataAccess, WriteBehindBatch> writeBehindBatches;
+	private SharedSessionContractImplementor writeBehindSession;
+
 	public AbstractCacheTransactionSynchronization(RegionFactory regionFactory) {
 		// prime the timestamp for any non-transactional access - until (if) we
 		// 		later join a new txn
@@ -35,11 +60,214 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 	public final void transactionCompleting() {
 	}
 
+	/**
+	 * Writes the cache entries deferred by the transaction.
+	 *
+	 * @implNote Subclasses overriding this method must call it, otherwise the
+	 * soft locks of the deferred entries are only released when they time out.
+	 */
 	@Override
 	public void transactionCompleted(boolean successful) {
 		// reset the timestamp for any non-transactional access after this
 		// 		point - until (if) we later join a new txn
 //		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
+
+		if ( writeBehindBatches != null ) {
+			// the entries are only deferred once the transaction has succeeded
+			assert successful;
+			final Map<EntityDataAccess, WriteBehindBatch> batches = writeBehindBatches;
+			final SharedSessionContractImplementor session = writeBehindSession;
+			writeBehindBatches = null;
+			writeBehindSession = null;
+			for ( WriteBehindBatch batch : batches.values() ) {
+				// a failure must neither prevent the other entries from being written,
+				// nor leave the soft locks of the updated entries held until they expire
+				try {
+					batch.writeInserts( session );
+				}
+				catch (CacheException e) {
+					L2CACHE_LOGGER.unableToWriteBehind( batch.access.getRegion().getName(), e );
+				}
+				try {
+					batch.writeUpdates( session );
+				}
+				catch (CacheException e) {
+					L2CACHE_LOGGER.unableToWriteBehind( batch.access.getRegion().getName(), e );
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean deferAfterInsert(
+			EntityPersister persister,
+			Object key,
+			Object value,
+			Object version,
+			SharedSessionContractImplementor session) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehindBatch( persister, session ).addInsert( key, value, version );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean deferAfterUpdate(
+			EntityPersister persister,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock,
+			SharedSessionContractImplementor session) {
+		if ( isWriteBehindEnabled( session ) ) {
+			writeBehindBatch( persister, session ).addUpdate( key, value, currentVersion, previousVersion, lock );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean isWriteBehindEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getSessionFactoryOptions().isCacheWriteBehindEnabled();
+	}
+
+	private WriteBehindBatch writeBehindBatch(EntityPersister persister, SharedSessionContractImplementor session) {
+		if ( writeBehindBatches == null ) {
+			writeBehindBatches = new LinkedHashMap<>();
+			writeBehindSession = session;
+		}
+		return writeBehindBatches.computeIfAbsent(
+				persister.getCacheAccessStrategy(),
+				access -> new WriteBehindBatch( access, persister )
+		);
+	}
+
+	/**
+	 * The cache entries of a region written behind the transaction
+	 */
+	private static class WriteBehindBatch {
+		private final EntityDataAccess access;
+		private final EntityPersister persister;
+
+		private final List<Object> insertedKeys = new ArrayList<>();
+		private final List<Object> insertedValues = new ArrayList<>();
+		private final List<Object> insertedVersions = new ArrayList<>();
+
+		private final List<Object> updatedKeys = new ArrayList<>();
+		private final List<Object> updatedValues = new ArrayList<>();
+		private final List<Object> currentVersions = new ArrayList<>();
+		private final List<Object> previousVersions = new ArrayList<>();
+		private final List<SoftLock> locks = new ArrayList<>();
+
+		private WriteBehindBatch(EntityDataAccess access, EntityPersister persister) {
+			this.access = access;
+			this.persister = persister;
+		}
+
+		private void addInsert(Object key, Object value, Object version) {
+			insertedKeys.add( key );
+			insertedValues.add( value );
+			insertedVersions.add( version );
+		}
+
+		private void addUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock) {
+			updatedKeys.add( key );
+			updatedValues.add( value );
+			currentVersions.add( currentVersion );
+			previousVersions.add( previousVersion );
+			locks.add( lock );
+		}
+
+		private void writeInserts(SharedSessionContractImplementor session) {
+			if ( !insertedKeys.isEmpty() ) {
+				put(
+						() -> access.afterInsertAll(
+								session,
+								insertedKeys.toArray(),
+								insertedValues.toArray(),
+								insertedVersions.toArray()
+						),
+						EventManager.CacheActionDescription.ENTITY_AFTER_INSERT,
+						session
+				);
+			}
+		}
+
+		private void writeUpdates(SharedSessionContractImplementor session) {
+			if ( !updatedKeys.isEmpty() ) {
+				boolean written = false;
+				try {
+					put(
+							() -> access.afterUpdateAll(
+									session,
+									updatedKeys.toArray(),
+									updatedValues.toArray(),
+									currentVersions.toArray(),
+									previousVersions.toArray(),
+									locks.toArray( new SoftLock[0] )
+							),
+							EventManager.CacheActionDescription.ENTITY_AFTER_UPDATE,
+							session
+					);
+					written = true;
+				}
+				finally {
+					if ( !written ) {
+						releaseLocks( session );
+					}
+				}
+			}
+		}
+
+		private void releaseLocks(SharedSessionContractImplementor session) {
+			for ( int i = 0; i < updatedKeys.size(); i++ ) {
+				try {
+					access.unlockItem( session, updatedKeys.get( i ), locks.get( i ) );
+				}
+				catch (CacheException e) {
+					// the lock expires eventually, and the original failure is reported
+					L2CACHE_LOGGER.debugf( e, "Unable to release the soft lock of %s", updatedKeys.get( i ) );
+				}
+			}
+		}
+
+		private void put(
+				IntSupplier operation,
+				EventManager.CacheActionDescription description,
+				SharedSessionContractImplementor session) {
+			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			int count = 0;
+			try {
+				eventListenerManager.cachePutStart();
+				count = operation.getAsInt();
+			}
+			finally {
+				eventManager.completeCachePutEvent(
+						cachePutEvent,
+						session,
+						access,
+						persister,
+						count > 0,
+						description
+				);
+				eventListenerManager.cachePutEnd();
+			}
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				final String regionName = access.getRegion().getName();
+				for ( int i = 0; i < count; i++ ) {
+					statistics.entityCachePut( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
+				}
+			}
+		}
 	}
 
 }
@@ -6,6 +6,12 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
 /**
  * Defines a context object that a {@link RegionFactory} is asked to create
  * ({@link RegionFactory#createTransactionContext}}) when a Hibernate Session
@@ -79,6 +85,69 @@ public interface CacheTransactionSynchronization {
 	 */
 	void transactionCompleted(boolean successful);
 
+	/**
+	 * Defers the {@linkplain EntityDataAccess#afterInsert after-insert} of the
+	 * cache entry of an entity to the {@linkplain #transactionCompleted completion}
+	 * of the transaction, when the deferred entries of each region are written at
+	 * once, using {@link EntityDataAccess#afterInsertAll}.
+	 *
+	 * @param persister The descriptor of the inserted entity
+	 * @param key The cache key of the entity
+	 * @param value The cache entry of the entity
+	 * @param version The version of the entity
+	 * @param session The session which inserted the entity
+	 *
+	 * @return {@code true} if the entry was deferred, {@code false} if the caller
+	 * should write it immediately
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_CACHE_WRITE_BEHIND
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean deferAfterInsert(
+			EntityPersister persister,
+			Object key,
+			Object value,
+			Object version,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
+
+	/**
+	 * Defers the {@linkplain EntityDataAccess#afterUpdate after-update} of the
+	 * cache entry of an entity to the {@linkplain #transactionCompleted completion}
+	 * of the transaction, when the deferred entries of each region are written at
+	 * once, using {@link EntityDataAccess#afterUpdateAll}. The soft lock of the
+	 * entry is held until then.
+	 *
+	 * @param persister The descriptor of the updated entity
+	 * @param key The cache key of the entity
+	 * @param value The cache entry of the entity
+	 * @param currentVersion The current version of the entity
+	 * @param previousVersion The previous version of the entity
+	 * @param lock The lock obtained from {@link EntityDataAccess#lockItem}
+	 * @param session The session which updated the entity
+	 *
+	 * @return {@code true} if the entry was deferred, {@code false} if the caller
+	 * should write it immediately
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_CACHE_WRITE_BEHIND
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean deferAfterUpdate(
+			EntityPersister persister,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
+
 	/**
 	 * Currently not used.  Here for future expansion
 	 *
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -27,4 +31,77 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Get multiple values by key at once
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @return the values which were found, by key
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Put multiple values by key at once
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry
+	 *
+	 * @since 7.0
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
+	/**
+	 * Whether {@link #putIfAbsentIntoCache} and {@link #replaceInCache} are supported,
+	 * and atomic across all the nodes sharing the region.
+	 *
+	 * @since 7.0
+	 */
+	default boolean supportsConditionalPuts() {
+		return false;
+	}
+
+	/**
+	 * Put a value by key, unless the region already holds a value for the key, atomically.
+	 *
+	 * @return the value already held by the region, or {@code null} if the given value was put
+	 *
+	 * @throws UnsupportedOperationException if {@link #supportsConditionalPuts()} is {@code false}
+	 *
+	 * @since 7.0
+	 */
+	default Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Conditional puts are not supported by region " + getName() );
+	}
+
+	/**
+	 * Replace the value of a key, if the region holds the expected value, atomically.
+	 *
+	 * @return whether the value was replaced
+	 *
+	 * @throws UnsupportedOperationException if {@link #supportsConditionalPuts()} is {@code false}
+	 *
+	 * @since 7.0
+	 */
+	default boolean replaceInCache(
+			Object key,
+			Object expectedValue,
+			Object value,
+			SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Conditional puts are not supported by region " + getName() );
+	}
 }
@@ -6,11 +6,13 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.internal.log.SubSystemLogging;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -102,4 +104,11 @@ public interface SecondLevelCacheLogger extends BasicLogger {
 	)
 	void nonStandardSupportForAccessType(String key, String accessType, String regionName);
 
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Could not write the cache entries of region [%s] after the completion of the transaction",
+			id = NAMESPACE + 9
+	)
+	void unableToWriteBehind(String regionName, @Cause CacheException e);
+
 }
@@ -8,6 +8,7 @@ package org.hibernate.cache.spi;
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -67,6 +68,33 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Callback for when a query whose results are to be cached with the given
+	 * {@linkplain CacheTransactionSynchronization#getCachingTimestamp caching timestamp}
+	 * is about to be executed. Allows implementations which keep track of time across
+	 * several nodes to make sure that invalidations which happen after the execution
+	 * are ordered after the cached results.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void beforeCacheableQueryExecution(long timestamp, SharedSessionContractImplementor session) {
+		// nothing to do by default
+	}
+
+	/**
+	 * Callback for when query results are about to be cached with the given
+	 * {@linkplain CacheTransactionSynchronization#getCachingTimestamp caching timestamp}.
+	 * Allows implementations which keep track of time across several nodes to make
+	 * sure later invalidations are ordered after the cached results.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void beforeQueryResultsCached(long timestamp, SharedSessionContractImplementor session) {
+		// nothing to do by default
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
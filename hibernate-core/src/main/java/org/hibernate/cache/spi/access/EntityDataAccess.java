@@ -121,4 +121,66 @@ public interface EntityDataAccess extends CachedDomainDataAccess {
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock);
+
+	/**
+	 * Bulk form of {@link #afterInsert}, called after the transaction completes
+	 * when the cache entries of inserted entities are written behind.
+	 *
+	 * @implSpec The default implementation calls {@link #afterInsert} for each key.
+	 *
+	 * @param session Current session
+	 * @param keys The item keys
+	 * @param values The items, in the order of the keys
+	 * @param versions The items' version values, in the order of the keys
+	 * @return the number of items which were actually cached
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 7.0
+	 */
+	default int afterInsertAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( afterInsert( session, keys[i], values[i], versions[i] ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Bulk form of {@link #afterUpdate}, called after the transaction completes
+	 * when the cache entries of updated entities are written behind.
+	 *
+	 * @implSpec The default implementation calls {@link #afterUpdate} for each key.
+	 *
+	 * @param session Current session
+	 * @param keys The item keys
+	 * @param values The items, in the order of the keys
+	 * @param currentVersions The items' current version values, in the order of the keys
+	 * @param previousVersions The items' previous version values, in the order of the keys
+	 * @param locks The locks previously obtained from {@link #lockItem}, in the order of the keys
+	 * @return the number of items which were actually cached
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @since 7.0
+	 */
+	default int afterUpdateAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] currentVersions,
+			Object[] previousVersions,
+			SoftLock[] locks) {
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( afterUpdate( session, keys[i], values[i], currentVersions[i], previousVersions[i], locks[i] ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
 }
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Cacheable representation of persistent collections whose disassembled state
+ * consists only of {@code Long}, {@code Integer} or {@link UUID} values, typically
+ * the identifiers of the elements of a one-to-many or many-to-many association.
+ * <p>
+ * The state is kept as a {@code long[]}, an {@code int[]}, or a {@code long[]} holding
+ * the most and least significant bits of each {@code UUID}, instead of an array of
+ * boxed values.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_COLLECTION_CACHE_ENTRIES
+ */
+public class CompactCollectionCacheEntry extends CollectionCacheEntry {
+	private final long[] longs;
+	private final int[] ints;
+	private final boolean uuids;
+
+	private CompactCollectionCacheEntry(long[] longs, int[] ints, boolean uuids) {
+		super( null );
+		this.longs = longs;
+		this.ints = ints;
+		this.uuids = uuids;
+	}
+
+	/**
+	 * Builds the cache entry for the given collection, which is compact when
+	 * its disassembled state allows it.
+	 *
+	 * @param collection The persistent collection instance
+	 * @param persister The collection persister
+	 *
+	 * @return a {@code CompactCollectionCacheEntry}, or a plain {@link CollectionCacheEntry}
+	 */
+	public static CollectionCacheEntry create(PersistentCollection<?> collection, CollectionPersister persister) {
+		final Object disassembled = collection.disassemble( persister );
+		if ( disassembled instanceof Serializable[] state && state.length > 0 ) {
+			final Serializable first = state[0];
+			if ( first instanceof Long ) {
+				final long[] longs = new long[state.length];
+				for ( int i = 0; i < state.length; i++ ) {
+					if ( !( state[i] instanceof Long value ) ) {
+						return new CollectionCacheEntry( state );
+					}
+					longs[i] = value;
+				}
+				return new CompactCollectionCacheEntry( longs, null, false );
+			}
+			else if ( first instanceof Integer ) {
+				final int[] ints = new int[state.length];
+				for ( int i = 0; i < state.length; i++ ) {
+					if ( !( state[i] instanceof Integer value ) ) {
+						return new CollectionCacheEntry( state );
+					}
+					ints[i] = value;
+				}
+				return new CompactCollectionCacheEntry( null, ints, false );
+			}
+			else if ( first instanceof UUID ) {
+				final long[] bits = new long[state.length * 2];
+				for ( int i = 0; i < state.length; i++ ) {
+					if ( !( state[i] instanceof UUID value ) ) {
+						return new CollectionCacheEntry( state );
+					}
+					bits[2 * i] = value.getMostSignificantBits();
+					bits[2 * i + 1] = value.getLeastSignificantBits();
+				}
+				return new CompactCollectionCacheEntry( bits, null, true );
+			}
+		}
+		return new CollectionCacheEntry( (Serializable) disassembled );
+	}
+
+	/**
+	 * The number of values in the cached state.
+	 */
+	public int size() {
+		return ints != null ? ints.length : uuids ? longs.length / 2 : longs.length;
+	}
+
+	private Serializable value(int i) {
+		if ( ints != null ) {
+			return ints[i];
+		}
+		else if ( uuids ) {
+			return new UUID( longs[2 * i], longs[2 * i + 1] );
+		}
+		else {
+			return longs[i];
+		}
+	}
+
+	@Override
+	public Serializable[] getState() {
+		final Serializable[] state = new Serializable[size()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = value( i );
+		}
+		return state;
+	}
+
+	/**
+	 * Assembles the collection from the cached state, after loading its elements
+	 * using a single batched multi-load if it is a bag, set or list of entities.
+	 *
+	 * @param collection The persistent collection instance being assembled
+	 * @param persister The collection persister
+	 * @param owner The collection owner instance
+	 * @param session The session
+	 */
+	public void assemble(
+			final PersistentCollection<?> collection,
+			final CollectionPersister persister,
+			final Object owner,
+			final SessionImplementor session) {
+		final Serializable[] state = getState();
+		if ( isElementIdentifiers( persister ) ) {
+			final List<Object> ids = new ArrayList<>( state.length );
+			for ( Serializable id : state ) {
+				ids.add( id );
+			}
+			final EntityType elementType = (EntityType) persister.getElementType();
+			session.byMultipleIds( elementType.getAssociatedEntityName() )
+					// the cache mode has to be specified for the second-level cache to be checked
+					.with( session.getCacheMode() )
+					.enableSessionCheck( true )
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+		}
+		collection.initializeFromCache( persister, state, owner );
+		collection.afterInitialize();
+	}
+
+	@Override
+	public void assemble(
+			final PersistentCollection<?> collection,
+			final CollectionPersister persister,
+			final Object owner) {
+		collection.initializeFromCache( persister, getState(), owner );
+		collection.afterInitialize();
+	}
+
+	/**
+	 * Is the cached state of the given collection made of the identifiers of its elements?
+	 */
+	private static boolean isElementIdentifiers(CollectionPersister persister) {
+		final Type elementType = persister.getElementType();
+		if ( elementType instanceof EntityType entityType && entityType.isReferenceToPrimaryKey() ) {
+			switch ( persister.getCollectionSemantics().getCollectionClassification() ) {
+				case BAG:
+				case SET:
+				case SORTED_SET:
+				case ORDERED_SET:
+				case LIST:
+					return true;
+				default:
+					return false;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "CompactCollectionCacheEntry(" + size() + ')';
+	}
+}
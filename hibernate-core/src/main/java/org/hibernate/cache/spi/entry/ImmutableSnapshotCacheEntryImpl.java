@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+/**
+ * Representation of the cached data of an immutable entity as a shared snapshot
+ * of its "disassembled state".
+ * <p>
+ * The immutable basic values of the snapshot are used as they are, so that assembling
+ * the state only requires copying the snapshot, and assembling the other values, for
+ * example resolving the foreign keys of to-one associations.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES
+ */
+public class ImmutableSnapshotCacheEntryImpl extends StandardCacheEntryImpl {
+	private final int[] assembledProperties;
+
+	/**
+	 * Constructs an ImmutableSnapshotCacheEntryImpl
+	 *
+	 * @param state The extracted state
+	 * @param persister The entity persister
+	 * @param version The current version (if versioned)
+	 * @param session The originating session
+	 * @param owner The owner
+	 * @param assembledProperties The indexes of the properties which need to be assembled,
+	 * as determined by {@link #assembledProperties(Type[])}
+	 */
+	public ImmutableSnapshotCacheEntryImpl(
+			Object[] state,
+			EntityPersister persister,
+			Object version,
+			SharedSessionContractImplementor session,
+			Object owner,
+			int[] assembledProperties) {
+		super( state, persister, version, session, owner );
+		this.assembledProperties = assembledProperties;
+	}
+
+	/**
+	 * The indexes of the properties of the given types which need to be assembled, that is,
+	 * the properties whose values are not immutable basic values.
+	 */
+	public static int[] assembledProperties(Type[] types) {
+		final int[] properties = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !( types[i] instanceof AbstractStandardBasicType<?> ) || types[i].isMutable() ) {
+				properties[count++] = i;
+			}
+		}
+		return Arrays.copyOf( properties, count );
+	}
+
+	@Override
+	public boolean isDeepCopyNeeded() {
+		// the values of an immutable entity are never modified
+		return false;
+	}
+
+	@Override
+	protected Object[] assembleState(
+			EntityPersister persister,
+			SharedSessionContractImplementor session,
+			Object instance) {
+		final Serializable[] snapshot = getDisassembledState();
+		final Object[] state = Arrays.copyOf( snapshot, snapshot.length, Object[].class );
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i : assembledProperties ) {
+			final Serializable cached = snapshot[i];
+			if ( cached != LazyPropertyInitializer.UNFETCHED_PROPERTY
+					&& cached != PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				state[i] = types[i].assemble( cached, session, instance );
+			}
+		}
+		return state;
+	}
+
+	@Override
+	public String toString() {
+		return "ImmutableSnapshotCacheEntry(" + getSubclass() + ')';
+	}
+}
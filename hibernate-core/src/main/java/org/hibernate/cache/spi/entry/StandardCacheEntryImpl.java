@@ -128,12 +128,7 @@ public class StandardCacheEntryImpl implements CacheEntry {
 			throw new AssertionFailure( "Tried to assemble a different subclass instance" );
 		}
 
-		//assembled state gets put in a new array (we read from cache by value!)
-		final Object[] state = CacheEntryHelper.assemble(
-				disassembledState,
-				persister.getPropertyTypes(),
-				session, instance
-		);
+		final Object[] state = assembleState( persister, session, instance );
 
 		//persister.setIdentifier(instance, id); //before calling interceptor, for consistency with normal load
 
@@ -155,6 +150,27 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		return state;
 	}
 
+	/**
+	 * Assemble the previously disassembled state into a new array.
+	 *
+	 * @param persister The entity persister
+	 * @param session The session
+	 * @param instance The entity instance
+	 *
+	 * @return The assembled state
+	 */
+	protected Object[] assembleState(
+			EntityPersister persister,
+			SharedSessionContractImplementor session,
+			Object instance) {
+		//assembled state gets put in a new array (we read from cache by value!)
+		return CacheEntryHelper.assemble(
+				disassembledState,
+				persister.getPropertyTypes(),
+				session, instance
+		);
+	}
+
 	@Override
 	public String toString() {
 		return "CacheEntry(" + subclass + ')';
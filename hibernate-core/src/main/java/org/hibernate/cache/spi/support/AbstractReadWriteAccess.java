@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -18,27 +21,49 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
 /**
+ * Base support for read-write access to cached data, maintaining soft locks
+ * on items being updated.
+ * <p>
+ * Operations on the same key are serialized by a lock, but the locks are
+ * striped by key, so that operations on unrelated keys of the same region
+ * do not contend with each other.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	/**
+	 * The number of lock stripes, which must be a power of two
+	 */
+	private static final int LOCK_STRIPES = 64;
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[LOCK_STRIPES];
+	private final StripedLock readLock;
+	private final StripedLock writeLock;
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		final Lock[] readLocks = new Lock[LOCK_STRIPES];
+		final Lock[] writeLocks = new Lock[LOCK_STRIPES];
+		for ( int i = 0; i < LOCK_STRIPES; i++ ) {
+			locks[i] = new ReentrantReadWriteLock();
+			readLocks[i] = locks[i].readLock();
+			writeLocks[i] = locks[i].writeLock();
+		}
+		readLock = new StripedLock( readLocks );
+		writeLock = new StripedLock( writeLocks );
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -51,14 +76,61 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
-	protected Lock readLock() {
+	/**
+	 * The read lock of the whole region, which acquires the read locks of all stripes.
+	 *
+	 * @deprecated use {@link #readLock(Object)} to only lock the stripe of a key
+	 */
+	@Deprecated(since = "7.0")
+	protected StripedLock readLock() {
 		return readLock;
 	}
 
-	protected Lock writeLock() {
+	/**
+	 * The write lock of the whole region, which acquires the write locks of all stripes.
+	 *
+	 * @deprecated use {@link #writeLock(Object)} to only lock the stripe of a key
+	 */
+	@Deprecated(since = "7.0")
+	protected StripedLock writeLock() {
 		return writeLock;
 	}
 
+	/**
+	 * The read lock of the stripe of the given key
+	 */
+	protected Lock readLock(Object key) {
+		return locks[stripe( key )].readLock();
+	}
+
+	/**
+	 * The write lock of the stripe of the given key
+	 */
+	protected Lock writeLock(Object key) {
+		return locks[stripe( key )].writeLock();
+	}
+
+	private static int stripe(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( LOCK_STRIPES - 1 );
+	}
+
+	/**
+	 * The locks of the stripes of all the given keys, in stripe order, so that
+	 * they may be acquired together without risking a deadlock.
+	 */
+	protected StripedLock stripedLock(Iterable<?> keys, boolean write) {
+		final BitSet stripes = new BitSet( LOCK_STRIPES );
+		for ( Object key : keys ) {
+			stripes.set( stripe( key ) );
+		}
+		final Lock[] stripeLocks = new Lock[stripes.cardinality()];
+		for ( int i = stripes.nextSetBit( 0 ), j = 0; i >= 0; i = stripes.nextSetBit( i + 1 ), j++ ) {
+			stripeLocks[j] = write ? locks[i].writeLock() : locks[i].readLock();
+		}
+		return new StripedLock( stripeLocks );
+	}
+
 	/**
 	 * Returns <code>null</code> if the item is not readable.  Locked items are not readable, nor are items created
 	 * afterQuery the start of this transaction.
@@ -69,6 +141,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		if ( debugEnabled ) {
 			log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		}
+		final Lock readLock = readLock( key );
 		try {
 			readLock.lock();
 			final Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -99,12 +172,43 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #get}, retrieving all the items from the storage at once.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		final StripedLock readLock = stripedLock( keys, false );
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> values = CollectionHelper.mapOfSize( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item.isReadable( timestamp ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), values.size(), keys.size() );
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			final boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
@@ -154,6 +258,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
 			writeLock.lock();
 
@@ -176,6 +281,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
 			if ( log.isDebugEnabled() ) {
 				log.debugf(
@@ -206,6 +312,13 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	}
 
 	protected void handleLockExpiry(SharedSessionContractImplementor session, Object key, Lockable lock) {
+		getStorageAccess().putIntoCache( key, expiredLock( key ), session );
+	}
+
+	/**
+	 * Creates the lock replacing the expired lock of the given key, which times out immediately.
+	 */
+	protected SoftLockImpl expiredLock(Object key) {
 		L2CACHE_LOGGER.softLockedCacheExpired( getRegion().getName(), key );
 		log.debugf( "Cached entry expired : %s", key );
 		final RegionFactory regionFactory = getRegion().getRegionFactory();
@@ -215,7 +328,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		SoftLockImpl newLock = new SoftLockImpl( ts, uuid, nextLockId.getAndIncrement(), null );
 		//newLock.unlock( ts );
 		newLock.unlock( ts - regionFactory.getTimeout() );
-		getStorageAccess().putIntoCache( key, newLock, session );
+		return newLock;
 	}
 
 	@Override
@@ -465,4 +578,27 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return "Lock Source-UUID:" + sourceUuid + " Lock-ID:" + lockId;
 		}
 	}
+
+	/**
+	 * A lock over a group of stripes, acquiring the locks of the stripes in order.
+	 */
+	protected static final class StripedLock {
+		private final Lock[] locks;
+
+		private StripedLock(Lock[] locks) {
+			this.locks = locks;
+		}
+
+		public void lock() {
+			for ( Lock lock : locks ) {
+				lock.lock();
+			}
+		}
+
+		public void unlock() {
+			for ( int i = locks.length - 1; i >= 0; i-- ) {
+				locks[i].unlock();
+			}
+		}
+	}
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -44,6 +47,35 @@ public abstract class DirectAccessRegionTemplate extends AbstractRegion implemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		getStorageAccess().putAllIntoCache( entries, session );
+	}
+
+	@Override
+	public boolean supportsConditionalPuts() {
+		return getStorageAccess().supportsConditionalPuts();
+	}
+
+	@Override
+	public Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		return getStorageAccess().putIfAbsentIntoCache( key, value, session );
+	}
+
+	@Override
+	public boolean replaceInCache(
+			Object key,
+			Object expectedValue,
+			Object value,
+			SharedSessionContractImplementor session) {
+		return getStorageAccess().replaceInCache( key, expectedValue, value, session );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -16,6 +20,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -80,8 +85,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		final Lock writeLock = writeLock( key );
 		try {
-			writeLock().lock();
+			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -96,7 +102,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -118,8 +124,9 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock) {
+		final Lock writeLock = writeLock( key );
 		try {
-			writeLock().lock();
+			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -143,7 +150,84 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Bulk form of {@link #afterInsert}, retrieving the current items from the storage
+	 * and putting the new ones into it at once.
+	 */
+	@Override
+	public int afterInsertAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		final List<Object> keyList = Arrays.asList( keys );
+		final Lock writeLock = stripedLock( keyList, true );
+		try {
+			writeLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keyList, session );
+			final long timestamp = getRegion().getRegionFactory().nextTimestamp();
+			final Map<Object, Object> newItems = CollectionHelper.mapOfSize( keys.length );
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( items.get( keys[i] ) == null ) {
+					newItems.put( keys[i], new Item( values[i], versions[i], timestamp ) );
+				}
+			}
+			getStorageAccess().putAllIntoCache( newItems, session );
+			return newItems.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Bulk form of {@link #afterUpdate}, retrieving the soft locks from the storage
+	 * and replacing them with the new items, or with released locks, at once.
+	 */
+	@Override
+	public int afterUpdateAll(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] currentVersions,
+			Object[] previousVersions,
+			SoftLock[] locks) {
+		final List<Object> keyList = Arrays.asList( keys );
+		final Lock writeLock = stripedLock( keyList, true );
+		try {
+			writeLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keyList, session );
+			final long timestamp = getRegion().getRegionFactory().nextTimestamp();
+			final Map<Object, Object> newItems = CollectionHelper.mapOfSize( keys.length );
+			int count = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Object key = keys[i];
+				// the same entity may have been updated, and locked, more than once by the transaction
+				final Lockable item = (Lockable) newItems.getOrDefault( key, items.get( key ) );
+				if ( item != null && item.isUnlockable( locks[i] ) ) {
+					final SoftLockImpl lockItem = (SoftLockImpl) item;
+					if ( lockItem.wasLockedConcurrently() ) {
+						lockItem.unlock( timestamp );
+						newItems.put( key, lockItem );
+					}
+					else {
+						newItems.put( key, new Item( values[i], currentVersions[i], timestamp ) );
+						count++;
+					}
+				}
+				else {
+					newItems.put( key, expiredLock( key ) );
+				}
+			}
+			getStorageAccess().putAllIntoCache( newItems, session );
+			return count;
+		}
+		finally {
+			writeLock.unlock();
 		}
 	}
 
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A hybrid logical clock, generating timestamps which are never lower than
+ * the local physical time, but also never lower than any timestamp observed
+ * from other nodes. This preserves the ordering of causally related events
+ * across several VMs in spite of clock skew.
+ * <p>
+ * The timestamps have the format of those generated by {@link SimpleTimestamper},
+ * that is, the physical time in milliseconds shifted left by 12 bits, with the
+ * lower bits used as a logical counter, so that both kinds of timestamps may be
+ * compared. An overflow of the logical counter simply increments the physical
+ * part.
+ */
+public final class HybridLogicalClock {
+	private final LongSupplier physicalClock;
+	private final AtomicLong value = new AtomicLong();
+
+	/**
+	 * Constructs a {@link HybridLogicalClock} based on {@link SimpleTimestamper}.
+	 */
+	public HybridLogicalClock() {
+		this( SimpleTimestamper::next );
+	}
+
+	/**
+	 * Constructs a {@link HybridLogicalClock}.
+	 *
+	 * @param physicalClock the local physical clock, in the format of {@link SimpleTimestamper}
+	 */
+	public HybridLogicalClock(LongSupplier physicalClock) {
+		this.physicalClock = physicalClock;
+	}
+
+	/**
+	 * Generates a timestamp for a local event, or an event to be sent to other nodes.
+	 */
+	public long now() {
+		final long physicalTime = physicalClock.getAsLong();
+		return value.updateAndGet( current -> Math.max( current + 1, physicalTime ) );
+	}
+
+	/**
+	 * Generates a timestamp for the observation of the given timestamp of another node.
+	 */
+	public long update(long observed) {
+		final long physicalTime = physicalClock.getAsLong();
+		return value.updateAndGet( current -> Math.max( Math.max( current, observed ) + 1, physicalTime ) );
+	}
+
+	/**
+	 * The last generated timestamp, without advancing the clock.
+	 */
+	public long current() {
+		return value.get();
+	}
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -28,6 +32,77 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get multiple items from the cache at once.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @return the items which were found, by key
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Put multiple items into the cache at once.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
+	/**
+	 * Whether {@link #putIfAbsentIntoCache} and {@link #replaceInCache} are supported,
+	 * and atomic across all the users of the cache.
+	 *
+	 * @since 7.0
+	 */
+	default boolean supportsConditionalPuts() {
+		return false;
+	}
+
+	/**
+	 * Put an item into the cache, unless the cache already holds an item for the key,
+	 * atomically.
+	 *
+	 * @return the item already held by the cache, or {@code null} if the given item was put
+	 *
+	 * @throws UnsupportedOperationException if {@link #supportsConditionalPuts()} is {@code false}
+	 *
+	 * @since 7.0
+	 */
+	default Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Conditional puts are not supported" );
+	}
+
+	/**
+	 * Replace an item of the cache, if the cache holds the expected item for the key,
+	 * atomically.
+	 *
+	 * @return whether the item was replaced
+	 *
+	 * @throws UnsupportedOperationException if {@link #supportsConditionalPuts()} is {@code false}
+	 *
+	 * @since 7.0
+	 */
+	default boolean replaceInCache(
+			Object key,
+			Object expectedValue,
+			Object value,
+			SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Conditional puts are not supported" );
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
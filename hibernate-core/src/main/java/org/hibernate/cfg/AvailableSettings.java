@@ -123,6 +123,25 @@ public interface AvailableSettings
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * When enabled, the static SQL of each entity, that is, its {@code LockMode#NONE}
+	 * load plan and its insert, update and delete statements, is generated on first
+	 * use instead of while the {@link org.hibernate.SessionFactory} is created. For a
+	 * large domain model of which a given application only uses a fraction, this
+	 * reduces the startup time and the memory used for entities which are never
+	 * loaded or written.
+	 * <p>
+	 * Note that mapping errors detected while generating the SQL are then only
+	 * reported on first use of the entity.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see #DELAY_ENTITY_LOADER_CREATIONS
+	 *
+	 * @since 7.0
+	 */
+	String DELAY_STATIC_SQL_GENERATION = "hibernate.loader.delay_static_sql_generation";
+
 	/**
 	 * When enabled, allows calls to {@link jakarta.persistence.EntityManager#refresh(Object)}
 	 * and {@link org.hibernate.Session#refresh(Object)} on a detached entity instance.
@@ -106,6 +106,10 @@ public interface CacheSettings {
 
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
+	 * <p>
+	 * When the timestamps region is shared by several nodes with possibly skewed
+	 * clocks, {@link org.hibernate.cache.internal.HybridLogicalClockTimestampsCacheFactory}
+	 * may be specified.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyTimestampsCacheFactory(TimestampsCacheFactory)
 	 */
@@ -186,6 +190,163 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Enable storage of immutable entities in the second level cache as shared
+	 * snapshots of their state, including the foreign keys of their to-one
+	 * associations.
+	 * <p>
+	 * Unlike {@linkplain #USE_DIRECT_REFERENCE_CACHE_ENTRIES reference entries},
+	 * this is not limited to entities without associations. When an entity is
+	 * read from the cache, its snapshot is copied as a whole, and only the values
+	 * which are not immutable basic values, such as associations, are assembled.
+	 * <p>
+	 * Has no effect on mutable entities, nor on the entities which use reference
+	 * entries.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES = "hibernate.cache.use_immutable_snapshot_entries";
+
+	/**
+	 * Enable a compact representation of cached collections whose disassembled
+	 * state consists only of {@code Long}, {@code Integer} or {@link java.util.UUID}
+	 * values, typically the identifiers of the elements of one-to-many and
+	 * many-to-many bags, sets and lists. Such state is stored as a primitive array
+	 * instead of an array of boxed values.
+	 * <p>
+	 * When a bag, set or list of entities is initialized from such an entry, its
+	 * elements are loaded up front using a single batched multi-load.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_COMPACT_COLLECTION_CACHE_ENTRIES = "hibernate.cache.use_compact_collection_entries";
+
+	/**
+	 * When enabled, the entries of entities inserted or updated by a transaction
+	 * are not written to the second-level cache one at a time as the transaction
+	 * completes. Instead, they are buffered by the
+	 * {@link org.hibernate.cache.spi.CacheTransactionSynchronization} of the session,
+	 * and written after the completion of the transaction as a single bulk operation
+	 * per region. The soft locks of the updated entries are held until then.
+	 * <p>
+	 * This mainly benefits remote caches, for transactions writing many cached
+	 * entities.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_CACHE_WRITE_BEHIND = "hibernate.cache.use_write_behind";
+
+	/**
+	 * When set to a positive value, keeps a local near-cache of at most the given
+	 * number of entries in front of every entity, collection and natural id region,
+	 * so that hits on hot entries do not need to access a remote or clustered cache.
+	 * <p>
+	 * Transactional regions are never near-cached.
+	 *
+	 * @settingDefault {@code 0}, that is, disabled
+	 *
+	 * @see #NEAR_CACHE_TTL
+	 * @see org.hibernate.cache.internal.NearCacheRegionFactory
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, during which the near-cached entries of nonstrict
+	 * read-write and read-write regions may be used. Read-only entries are kept until
+	 * evicted.
+	 * <p>
+	 * This bounds how long a change made by another node may go unnoticed. When the
+	 * query cache is enabled, the expired entries of read-write regions are checked
+	 * against the timestamps region, and kept for another time to live if their tables
+	 * were not invalidated since they were read.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @see #NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TTL = "hibernate.cache.near_cache.ttl";
+
+	/**
+	 * Cache warming properties follow the pattern
+	 * {@code hibernate.cache.warmup.query.EntityName hql}, where {@code hql} is a
+	 * query selecting the identifiers of the instances of the entity to load into
+	 * its region when the {@code SessionFactory} is created.
+	 *
+	 * @see #CACHE_WARMUP_AWAIT
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_QUERY_PREFIX = "hibernate.cache.warmup.query";
+
+	/**
+	 * Cache warming properties follow the pattern
+	 * {@code hibernate.cache.warmup.snapshot_size.EntityName size}, where {@code size}
+	 * is the number of most recently loaded instances of the entity whose identifiers
+	 * are written to the {@linkplain #CACHE_WARMUP_SNAPSHOT_DIRECTORY snapshot directory}
+	 * when the {@code SessionFactory} is closed, and which are loaded into its region
+	 * the next time it is created.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX = "hibernate.cache.warmup.snapshot_size";
+
+	/**
+	 * The directory to which the snapshots of recently loaded identifiers are written.
+	 * Required when {@value #CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX} properties are specified.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_SNAPSHOT_DIRECTORY = "hibernate.cache.warmup.snapshot_directory";
+
+	/**
+	 * The number of threads loading entities into their regions when warming the cache.
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_THREADS = "hibernate.cache.warmup.threads";
+
+	/**
+	 * The number of entities loaded at once when warming the cache.
+	 *
+	 * @settingDefault {@code 100}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_BATCH_SIZE = "hibernate.cache.warmup.batch_size";
+
+	/**
+	 * When enabled, the creation of the {@code SessionFactory} waits until the cache
+	 * is warmed. Otherwise, the cache is warmed in the background.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_WARMUP_AWAIT = "hibernate.cache.warmup.await";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
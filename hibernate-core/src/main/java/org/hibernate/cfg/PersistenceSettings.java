@@ -161,6 +161,41 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the entity and collection persisters are created concurrently
+	 * on a dedicated pool of threads, which shortens the startup of large domain
+	 * models on multicore machines.  The threads use the context class loader of
+	 * the bootstrapping thread, and are stopped once the persisters are created.
+	 * Registering the persisters and everything following it, which depends on
+	 * their order, still happens on the bootstrapping thread, in the order of the
+	 * boot model.
+	 * <p>
+	 * The types lazily resolved by the boot model are resolved upfront on the
+	 * bootstrapping thread, but the persister constructors still share state,
+	 * such as the bean container and the type registries.  Custom persisters,
+	 * custom types, custom generators, and bean containers must therefore be
+	 * safe to use concurrently when this setting is enabled.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @see #PARALLEL_PERSISTER_CREATION_THREADS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_CREATION = "hibernate.parallel_persister_creation";
+
+	/**
+	 * The number of threads creating the persisters when
+	 * {@value #PARALLEL_PERSISTER_CREATION} is enabled.
+	 * <p>
+	 * The default is the number of available processors.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_CREATION_THREADS = "hibernate.parallel_persister_creation_threads";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -9,9 +9,11 @@ package org.hibernate.engine.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
@@ -654,16 +656,7 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 				);
 			}
 
-			if ( entityNaturalIdResolutionCache == null ) {
-				entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
-				EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
-				if ( existingCache != null ) {
-					entityNaturalIdResolutionCache = existingCache;
-				}
-			}
-
-			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+			cacheSharedResolutionLocally( persister, pk, cachedNaturalId );
 		}
 		else if ( statisticsEnabled ) {
 			statistics.naturalIdCacheMiss(
@@ -675,6 +668,98 @@ public class NaturalIdResolutionsImpl implements NaturalIdResolutions, Serializa
 		return pk;
 	}
 
+	@Override
+	public Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final EntityResolutions entityNaturalIdResolutionCache = resolutionsByEntity.get( persister );
+		final SharedSessionContractImplementor session = session();
+		final NaturalIdDataAccess naturalIdCacheAccessStrategy =
+				persister.hasNaturalIdCache() && session.getCacheMode().isGetEnabled()
+						? persister.getNaturalIdCacheAccessStrategy()
+						: null;
+
+		final Object[] ids = new Object[naturalIds.length];
+		final Object[] naturalIdCacheKeys = new Object[naturalIds.length];
+		final Set<Object> missedCacheKeys = new LinkedHashSet<>();
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object naturalId = naturalIds[i];
+			validateNaturalId( persister, naturalId );
+			if ( entityNaturalIdResolutionCache != null ) {
+				final Object pk = entityNaturalIdResolutionCache.naturalIdToPkMap.get(
+						new ResolutionImpl( persister, naturalId, persistenceContext )
+				);
+				if ( pk != null ) {
+					// Found in session cache
+					ids[i] = pk;
+					continue;
+				}
+				if ( entityNaturalIdResolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
+					ids[i] = NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+					continue;
+				}
+			}
+			if ( naturalIdCacheAccessStrategy != null ) {
+				naturalIdCacheKeys[i] = naturalIdCacheAccessStrategy.generateCacheKey( naturalId, persister, session );
+				missedCacheKeys.add( naturalIdCacheKeys[i] );
+			}
+		}
+
+		if ( !missedCacheKeys.isEmpty() ) {
+			// Session cache misses, try resolution from second-level cache in one go
+			final Map<Object, Object> cachedPks =
+					CacheHelper.fromSharedCache( session, missedCacheKeys, persister, true, naturalIdCacheAccessStrategy );
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( Object cacheKey : missedCacheKeys ) {
+					if ( cachedPks.get( cacheKey ) != null ) {
+						statistics.naturalIdCacheHit(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								naturalIdCacheAccessStrategy.getRegion().getName()
+						);
+					}
+					else {
+						statistics.naturalIdCacheMiss(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								naturalIdCacheAccessStrategy.getRegion().getName()
+						);
+					}
+				}
+			}
+
+			for ( int i = 0; i < naturalIds.length; i++ ) {
+				if ( naturalIdCacheKeys[i] != null ) {
+					final Object pk = cachedPks.get( naturalIdCacheKeys[i] );
+					if ( pk != null ) {
+						// Found in second-level cache, store in session cache
+						ids[i] = pk;
+						cacheSharedResolutionLocally(
+								persister,
+								pk,
+								new ResolutionImpl( persister, naturalIds[i], persistenceContext )
+						);
+					}
+				}
+			}
+		}
+
+		return ids;
+	}
+
+	private void cacheSharedResolutionLocally(EntityPersister persister, Object pk, Resolution cachedNaturalId) {
+		EntityResolutions entityNaturalIdResolutionCache = resolutionsByEntity.get( persister );
+		if ( entityNaturalIdResolutionCache == null ) {
+			entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
+			EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
+			if ( existingCache != null ) {
+				entityNaturalIdResolutionCache = existingCache;
+			}
+		}
+
+		entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
+		entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+	}
+
 	@Override
 	public Collection<?> getCachedPkResolutions(EntityMappingType entityDescriptor) {
 		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
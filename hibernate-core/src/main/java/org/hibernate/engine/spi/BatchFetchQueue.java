@@ -6,10 +6,19 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -214,6 +223,8 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CacheLookahead cachedEntities =
+				entityCacheLookahead( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -229,7 +240,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( cachedEntities == null || !cachedEntities.isCached( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -272,6 +283,8 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final CacheLookahead cachedEntities =
+					entityCacheLookahead( set, entityDescriptor.getEntityPersister(), maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +296,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( cachedEntities == null || !cachedEntities.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +314,30 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * @return a lookahead over the given keys, or {@code null} if the entities
+	 * cannot be read from the second-level cache
+	 */
+	private @Nullable CacheLookahead entityCacheLookahead(
+			Collection<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new CacheLookahead(
+					entityKeys.iterator(),
+					batchSize,
+					entityKey -> cache.generateCacheKey(
+							( (EntityKey) entityKey ).getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.fromSharedCache( session, cacheKeys, persister, cache )
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -382,6 +406,9 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final CacheLookahead cachedCollections =
+				collectionCacheLookahead( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,7 +452,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( cachedCollections == null || !cachedCollections.isCached( loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +496,7 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final CacheLookahead cachedCollections = collectionCacheLookahead( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +531,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( cachedCollections == null || !cachedCollections.isCached( loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,19 +547,94 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	/**
+	 * @return a lookahead over the loaded keys of the given collections, or {@code null}
+	 * if the collections cannot be read from the second-level cache
+	 */
+	private @Nullable CacheLookahead collectionCacheLookahead(
+			Map<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new CacheLookahead(
+					collections.keySet().stream()
+							.map( CollectionEntry::getLoadedKey )
+							.filter( Objects::nonNull )
+							.iterator(),
+					batchSize,
+					collectionKey -> cache.generateCacheKey(
+							collectionKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.fromSharedCache( session, cacheKeys, persister, cache )
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	/**
+	 * Determines whether the entities or collections of the keys queued for batch
+	 * fetching are in the second-level cache. Keys are expected to be checked in
+	 * queue order, and the keys following the one being checked are looked up in
+	 * the same bulk operation, so that filling a batch costs a single round trip
+	 * to the cache rather than one per key.
+	 */
+	private static final class CacheLookahead {
+		private final Iterator<?> keys;
+		private final int windowSize;
+		private final Function<Object, Object> cacheKeyGenerator;
+		private final Function<List<Object>, Map<Object, Object>> cacheReader;
+		private final Set<Object> window = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final Set<Object> cachedKeys = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+		private CacheLookahead(
+				Iterator<?> keys,
+				int windowSize,
+				Function<Object, Object> cacheKeyGenerator,
+				Function<List<Object>, Map<Object, Object>> cacheReader) {
+			this.keys = keys;
+			this.windowSize = windowSize;
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.cacheReader = cacheReader;
+		}
+
+		boolean isCached(Object key) {
+			if ( !window.contains( key ) ) {
+				lookAhead( key );
+			}
+			return cachedKeys.contains( key );
+		}
+
+		private void lookAhead(Object key) {
+			window.clear();
+			cachedKeys.clear();
+			final List<Object> windowKeys = new ArrayList<>( windowSize );
+			while ( keys.hasNext() && ( !window.contains( key ) || windowKeys.size() < windowSize ) ) {
+				final Object next = keys.next();
+				if ( window.add( next ) ) {
+					windowKeys.add( next );
+				}
+			}
+			if ( window.add( key ) ) {
+				// keys are not being checked in queue order
+				windowKeys.add( key );
+			}
+
+			final List<Object> cacheKeys = new ArrayList<>( windowKeys.size() );
+			for ( Object windowKey : windowKeys ) {
+				cacheKeys.add( cacheKeyGenerator.apply( windowKey ) );
+			}
+			final Map<Object, Object> cachedValues = cacheReader.apply( cacheKeys );
+			for ( int i = 0; i < windowKeys.size(); i++ ) {
+				if ( cachedValues.containsKey( cacheKeys.get( i ) ) ) {
+					cachedKeys.add( windowKeys.get( i ) );
+				}
+			}
+		}
 	}
 
 	public SharedSessionContractImplementor getSession() {
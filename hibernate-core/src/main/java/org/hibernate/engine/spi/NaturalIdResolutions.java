@@ -84,6 +84,24 @@ public interface NaturalIdResolutions {
 	 */
 	Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entityDescriptor);
 
+	/**
+	 * Find the cached identifiers for the given natural-ids, looking up the
+	 * ones not cached in the session with a single bulk get from the second
+	 * level cache.
+	 *
+	 * @return The cross-referenced primary keys, {@link #INVALID_NATURAL_ID_REFERENCE}
+	 * or {@code null}, at the position of their natural-id.
+	 *
+	 * @since 7.0
+	 */
+	default Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final Object[] ids = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			ids[i] = findCachedIdByNaturalId( naturalIds[i], entityDescriptor );
+		}
+		return ids;
+	}
+
 	/**
 	 * Find all the locally cached primary key cross-reference entries for the given entity.
 	 *
@@ -9,12 +9,15 @@ package org.hibernate.event.internal;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.internal.CoreLogging;
@@ -54,27 +57,41 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				LOG.trace( "Checking second-level cache" );
 			}
 
-			final boolean foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
+			final EventManager eventManager = source.getEventManager();
+			final HibernateMonitoringEvent collectionInitializationEvent =
+					eventManager.beginCollectionInitializationEvent();
+			boolean foundInCache = false;
+			try {
+				foundInCache = initializeCollectionFromCache( loadedKey, loadedPersister, collection, source );
+				if ( foundInCache ) {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection initialized from cache" );
+					}
 				}
-			}
-			else {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
-				}
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized" );
-				}
-
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				else {
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection not cached" );
+					}
+					loadedPersister.initialize( loadedKey, source );
+					handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
+					if ( LOG.isTraceEnabled() ) {
+						LOG.trace( "Collection initialized" );
+					}
+
+					final StatisticsImplementor statistics = source.getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.fetchCollection( loadedPersister.getRole() );
+					}
 				}
 			}
+			finally {
+				eventManager.completeCollectionInitializationEvent(
+						collectionInitializationEvent,
+						source,
+						loadedPersister,
+						foundInCache
+				);
+			}
 		}
 	}
 
@@ -147,7 +164,13 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				persister.getCacheEntryStructure().destructure( ce, factory );
 
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
-		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
+		final Object owner = persistenceContext.getCollectionOwner( id, persister );
+		if ( cacheEntry instanceof CompactCollectionCacheEntry compactCacheEntry ) {
+			compactCacheEntry.assemble( collection, persister, owner, source );
+		}
+		else {
+			cacheEntry.assemble( collection, persister, owner );
+		}
 		persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
 		// addInitializedCollection(collection, persister, id);
 		return true;
@@ -21,7 +21,9 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.CoreLogging;
@@ -65,7 +67,15 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			throw new HibernateException( "Unable to locate persister: " + event.getEntityClassName() );
 		}
 		checkId( event, loadType, persister );
-		doOnLoad( persister, event, loadType );
+		final EventSource session = event.getSession();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent entityLoadEvent = eventManager.beginEntityLoadEvent();
+		try {
+			doOnLoad( persister, event, loadType );
+		}
+		finally {
+			eventManager.completeEntityLoadEvent( entityLoadEvent, session, persister, event.getResult() != null );
+		}
 	}
 
 	private void checkId(LoadEvent event, LoadType loadType, EntityPersister persister) {
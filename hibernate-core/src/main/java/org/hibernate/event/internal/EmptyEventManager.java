@@ -19,6 +19,11 @@ import org.hibernate.persister.entity.EntityPersister;
 
 public final class EmptyEventManager implements EventManager {
 
+	/**
+	 * Singleton access
+	 */
+	public static final EmptyEventManager INSTANCE = new EmptyEventManager();
+
 	@Override
 	public HibernateMonitoringEvent beginSessionOpenEvent() {
 		return null;
@@ -236,4 +241,74 @@ public final class EmptyEventManager implements EventManager {
 			SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginHqlInterpretationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeHqlInterpretationEvent(
+			HibernateMonitoringEvent hqlInterpretationEvent,
+			String hql,
+			boolean cacheHit) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginEntityLoadEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityLoadEvent(
+			HibernateMonitoringEvent entityLoadEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean found) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCollectionInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCollectionInitializationEvent(
+			HibernateMonitoringEvent collectionInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			boolean fromCache) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginNaturalIdResolutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeNaturalIdResolutionEvent(
+			HibernateMonitoringEvent naturalIdResolutionEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean cached,
+			boolean found) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginResultsHydrationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeResultsHydrationEvent(
+			HibernateMonitoringEvent resultsHydrationEvent,
+			SharedSessionContractImplementor session,
+			Class<?> resultType,
+			int rowCount) {
+
+	}
 }
@@ -162,6 +162,91 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	/**
+	 * @since 7.0
+	 */
+	default HibernateMonitoringEvent beginHqlInterpretationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default void completeHqlInterpretationEvent(
+			HibernateMonitoringEvent hqlInterpretationEvent,
+			String hql,
+			boolean cacheHit) {
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default HibernateMonitoringEvent beginEntityLoadEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default void completeEntityLoadEvent(
+			HibernateMonitoringEvent entityLoadEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean found) {
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default HibernateMonitoringEvent beginCollectionInitializationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default void completeCollectionInitializationEvent(
+			HibernateMonitoringEvent collectionInitializationEvent,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			boolean fromCache) {
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default HibernateMonitoringEvent beginNaturalIdResolutionEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default void completeNaturalIdResolutionEvent(
+			HibernateMonitoringEvent naturalIdResolutionEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean cached,
+			boolean found) {
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default HibernateMonitoringEvent beginResultsHydrationEvent() {
+		return null;
+	}
+
+	/**
+	 * @since 7.0
+	 */
+	default void completeResultsHydrationEvent(
+			HibernateMonitoringEvent resultsHydrationEvent,
+			SharedSessionContractImplementor session,
+			Class<?> resultType,
+			int rowCount) {
+	}
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
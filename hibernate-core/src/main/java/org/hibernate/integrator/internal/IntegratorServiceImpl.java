@@ -10,6 +10,7 @@ import java.util.LinkedHashSet;
 
 import org.hibernate.boot.beanvalidation.BeanValidationIntegrator;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cache.internal.CacheWarmingIntegrator;
 import org.hibernate.cache.internal.CollectionCacheInvalidator;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
@@ -34,6 +35,7 @@ public class IntegratorServiceImpl implements IntegratorService {
 		// separate project/jars.
 		instance.addIntegrator( new BeanValidationIntegrator() );
 		instance.addIntegrator( new CollectionCacheInvalidator() );
+		instance.addIntegrator( new CacheWarmingIntegrator() );
 
 		// register provided integrators
 		for ( Integrator integrator : providedIntegrators ) {
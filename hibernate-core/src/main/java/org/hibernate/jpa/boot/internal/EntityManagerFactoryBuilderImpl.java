@@ -6,7 +6,10 @@
  */
 package org.hibernate.jpa.boot.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -88,6 +91,8 @@ import org.hibernate.tool.schema.spi.DelayedDropRegistryNotAvailableImpl;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
 
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.EntityManagerFactory;
@@ -166,7 +171,11 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 	public static final String METADATA_BUILDER_CONTRIBUTOR = JpaSettings.METADATA_BUILDER_CONTRIBUTOR;
 
 	/**
-	 * Names a Jandex {@link Index} instance to use.
+	 * Names a Jandex {@link Index} to use.  May be specified as an {@link IndexView}
+	 * instance, or as the name of a classpath resource holding a serialized index, such
+	 * as the {@code META-INF/jandex.idx} written at build time by the Hibernate Gradle
+	 * plugin.  When specified, the annotations of indexed classes are read from the
+	 * index instead of through reflection.
 	 */
 	public static final String JANDEX_INDEX = "hibernate.jandex_index";
 
@@ -1369,6 +1378,11 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 			metamodelBuilder.applyTempClassLoader( persistenceUnit.getTempClassLoader() );
 		}
 
+		final IndexView jandexIndex = resolveJandexIndex( configurationValues.get( JANDEX_INDEX ) );
+		if ( jandexIndex != null ) {
+			metamodelBuilder.applyIndexView( jandexIndex );
+		}
+
 		metamodelBuilder.applyScanEnvironment( new StandardJpaScanEnvironmentImpl( persistenceUnit ) );
 		metamodelBuilder.applyScanOptions(
 				new StandardScanOptions(
@@ -1388,6 +1402,29 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 		}
 	}
 
+	private IndexView resolveJandexIndex(Object setting) {
+		if ( setting == null ) {
+			return null;
+		}
+		else if ( setting instanceof IndexView ) {
+			return (IndexView) setting;
+		}
+		else {
+			final String resourceName = setting.toString();
+			final URL resource = standardServiceRegistry.requireService( ClassLoaderService.class )
+					.locateResource( resourceName );
+			if ( resource == null ) {
+				throw persistenceException( "Unable to locate Jandex index [" + resourceName + "]" );
+			}
+			try ( InputStream stream = resource.openStream() ) {
+				return new IndexReader( stream ).read();
+			}
+			catch (IOException e) {
+				throw persistenceException( "Unable to read Jandex index [" + resourceName + "]", e );
+			}
+		}
+	}
+
 	private void applyTypeContributors() {
 		final TypeContributorList typeContributorList = (TypeContributorList) configurationValues.remove(
 				TYPE_CONTRIBUTORS
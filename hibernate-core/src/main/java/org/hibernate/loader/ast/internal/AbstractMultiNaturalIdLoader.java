@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.NaturalIdResolutions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
+import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.NaturalIdMapping;
+import org.hibernate.sql.results.LoadingLogger;
+
+/**
+ * Base support for {@link MultiNaturalIdLoader} implementations.
+ * <p>
+ * The natural-ids are first resolved to identifiers using the natural-id
+ * resolutions of the session and, in bulk, the second-level natural-id cache.
+ * The entities with a resolved identifier are then loaded by id, and only the
+ * remaining ones are loaded by natural-id from the database, which in turn
+ * caches their resolutions.
+ */
+public abstract class AbstractMultiNaturalIdLoader<E> implements MultiNaturalIdLoader<E> {
+	private final EntityMappingType entityDescriptor;
+
+	public AbstractMultiNaturalIdLoader(EntityMappingType entityDescriptor) {
+		this.entityDescriptor = entityDescriptor;
+	}
+
+	@Override
+	public EntityMappingType getLoadable() {
+		return entityDescriptor;
+	}
+
+	@Override
+	public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions options, SharedSessionContractImplementor session) {
+		if ( naturalIds == null ) {
+			throw new IllegalArgumentException( "`naturalIds` is null" );
+		}
+
+		if ( naturalIds.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		if ( LoadingLogger.LOGGER.isTraceEnabled() ) {
+			LoadingLogger.LOGGER.tracef( "Starting multi natural-id loading for `%s`", entityDescriptor.getEntityName() );
+		}
+
+		final LockOptions lockOptions = options.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: options.getLockOptions();
+
+		if ( lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			// the locks have to be acquired by the query
+			return loadEntitiesWithUnresolvedNaturalIds( naturalIds, options, lockOptions, session );
+		}
+
+		final NaturalIdMapping naturalIdMapping = entityDescriptor.getNaturalIdMapping();
+		final Object[] normalizedNaturalIds = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			normalizedNaturalIds[i] = naturalIdMapping.normalizeInput( naturalIds[i] );
+		}
+
+		final Object[] resolvedIds = session.getPersistenceContextInternal()
+				.getNaturalIdResolutions()
+				.findCachedIdsByNaturalIds( normalizedNaturalIds, entityDescriptor );
+
+		final List<Object> ids = new ArrayList<>( naturalIds.length );
+		final List<Object> unresolvedNaturalIds = new ArrayList<>( naturalIds.length );
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object id = resolvedIds[i];
+			if ( id == null ) {
+				unresolvedNaturalIds.add( normalizedNaturalIds[i] );
+			}
+			else if ( id != NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE ) {
+				ids.add( id );
+			}
+		}
+
+		if ( ids.isEmpty() ) {
+			return loadEntitiesWithUnresolvedNaturalIds( unresolvedNaturalIds.toArray(), options, lockOptions, session );
+		}
+
+		final List<E> results = new ArrayList<>( naturalIds.length );
+		for ( Object entity : entityDescriptor.getEntityPersister().multiLoad(
+				ids.toArray(),
+				session.asEventSource(),
+				new ResolvedIdLoadOptions( options, lockOptions )
+		) ) {
+			if ( entity != null ) {
+				//noinspection unchecked
+				results.add( (E) entity );
+			}
+		}
+		if ( !unresolvedNaturalIds.isEmpty() ) {
+			results.addAll(
+					loadEntitiesWithUnresolvedNaturalIds( unresolvedNaturalIds.toArray(), options, lockOptions, session )
+			);
+		}
+		return results;
+	}
+
+	/**
+	 * Load the entities whose natural-ids could not be resolved from the caches from the database
+	 */
+	protected abstract List<E> loadEntitiesWithUnresolvedNaturalIds(
+			Object[] naturalIds,
+			MultiNaturalIdLoadOptions options,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session);
+
+	private record ResolvedIdLoadOptions(MultiNaturalIdLoadOptions options, LockOptions lockOptions)
+			implements MultiIdLoadOptions {
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return options.isReturnOfDeletedEntitiesEnabled();
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return options.getBatchSize();
+		}
+	}
+}
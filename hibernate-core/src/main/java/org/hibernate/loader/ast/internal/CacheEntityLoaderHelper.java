@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -259,6 +263,92 @@ public class CacheEntityLoaderHelper {
 		return processCachedEntry( entity, persister, ce, source, entityKey );
 	}
 
+	/**
+	 * Attempts to load the entities with the given keys from the second-level cache,
+	 * retrieving their cache entries in a single bulk operation.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The entities from the second-level cache, in the order of the given keys,
+	 * with {@code null} for the entities which were not found.
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+		final Object[] entities = new Object[entityKeys.size()];
+
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache || entities.length == 0 ) {
+			// we can't use cache here
+			return entities;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[entities.length];
+		for ( int i = 0; i < entities.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					entityKeys.get( i ).getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Map<Object, Object> cacheEntries =
+				CacheHelper.fromSharedCache( source, Arrays.asList( cacheKeys ), persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		PostLoadEvent postLoadEvent = null;
+		for ( int i = 0; i < entities.length; i++ ) {
+			final Object ce = cacheEntries.get( cacheKeys[i] );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				final EntityKey entityKey = entityKeys.get( i );
+				// the same id may have been requested more than once
+				final Object managedEntity = persistenceContext.getEntity( entityKey );
+				if ( managedEntity != null ) {
+					entities[i] = managedEntity;
+				}
+				else {
+					final Object entity = processCachedEntry( null, persister, ce, source, entityKey );
+					if ( entity != null ) {
+						//PostLoad is needed for EJB3
+						if ( postLoadEvent == null ) {
+							postLoadEvent = new PostLoadEvent( source );
+						}
+						postLoadEvent.setEntity( entity )
+								.setId( entityKey.getIdentifier() )
+								.setPersister( persister );
+						factory.getFastSessionServices().firePostLoadEvent( postLoadEvent );
+						entities[i] = entity;
+					}
+				}
+			}
+		}
+		return entities;
+	}
 
 	private Object getFromSharedCache(
 			final Object entityId,
@@ -86,6 +86,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
+		List<EntityKey> entityKeysToLoadFromCache = null;
+		List<Integer> entityKeysToLoadFromCacheResultIndexes = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -127,19 +129,23 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					result.add( i, managedEntity );
 					continue;
 				}
+
+				if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// look for it in the SessionFactory, along with all the others
+					if ( entityKeysToLoadFromCache == null ) {
+						entityKeysToLoadFromCache = new ArrayList<>();
+						entityKeysToLoadFromCacheResultIndexes = new ArrayList<>();
+					}
+					// hold its place in the result with the EntityKey, we'll come back to it later
+					result.add( i, entityKey );
+					entityKeysToLoadFromCache.add( entityKey );
+					entityKeysToLoadFromCacheResultIndexes.add( i );
+					continue;
+				}
 			}
 
 			// if we did not hit any of the continues above, then we need to batch
@@ -154,6 +160,29 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			idsToLoadFromDatabaseResultIndexes.add( i );
 		}
 
+		if ( entityKeysToLoadFromCache != null ) {
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session,
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					entityKeysToLoadFromCache
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final Integer resultIndex = entityKeysToLoadFromCacheResultIndexes.get( i );
+				if ( cachedEntities[i] != null ) {
+					result.set( resultIndex, cachedEntities[i] );
+				}
+				else {
+					if ( idsToLoadFromDatabase == null ) {
+						idsToLoadFromDatabase = new ArrayList<>();
+						idsToLoadFromDatabaseResultIndexes = new ArrayList<>();
+					}
+					idsToLoadFromDatabase.add( entityKeysToLoadFromCache.get( i ).getIdentifier() );
+					idsToLoadFromDatabaseResultIndexes.add( resultIndex );
+				}
+			}
+		}
+
 		if ( idsToLoadFromDatabase == null ) {
 			// all the given ids were already associated with the Session
 			//noinspection unchecked
@@ -316,6 +345,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		List<EntityKey> entityKeysToLoadFromCache = null;
+		List<Integer> entityKeysToLoadFromCachePositions = null;
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -357,14 +388,15 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			}
 
 			if ( resolvedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-						loadEvent,
-						getLoadable().getEntityPersister(),
-						entityKey
-				);
+				// look for it in the SessionFactory, along with all the others
+				if ( entityKeysToLoadFromCache == null ) {
+					entityKeysToLoadFromCache = new ArrayList<>();
+					entityKeysToLoadFromCachePositions = new ArrayList<>();
+				}
+				entityKeysToLoadFromCache.add( entityKey );
+				entityKeysToLoadFromCachePositions.add( i );
 			}
-
-			if ( resolvedEntity != null ) {
+			else if ( resolvedEntity != null ) {
 				foundAnyResolvedEntities = true;
 
 				//noinspection unchecked
@@ -379,6 +411,30 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			}
 		}
 
+		if ( entityKeysToLoadFromCache != null ) {
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session,
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					entityKeysToLoadFromCache
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final EntityKey entityKey = entityKeysToLoadFromCache.get( i );
+				if ( cachedEntities[i] != null ) {
+					foundAnyResolvedEntities = true;
+					//noinspection unchecked
+					resolutionConsumer.consume( entityKeysToLoadFromCachePositions.get( i ), entityKey, (R) cachedEntities[i] );
+				}
+				else {
+					if ( nonResolvedIds == null ) {
+						nonResolvedIds = new ArrayList<>();
+					}
+					//noinspection unchecked
+					nonResolvedIds.add( (K) entityKey.getIdentifier() );
+				}
+			}
+		}
+
 		if ( foundAnyResolvedEntities ) {
 			if ( isEmpty( nonResolvedIds ) ) {
 				// all the given ids were already associated with the Session
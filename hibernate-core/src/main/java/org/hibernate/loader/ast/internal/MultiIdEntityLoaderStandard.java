@@ -95,6 +95,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		final List<EntityKey> entityKeysToLoadFromCache = new ArrayList<>();
+		final List<Integer> elementPositionsLoadedFromCache = new ArrayList<>();
 
 		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 		for ( int i = 0; i < ids.length; i++ ) {
@@ -137,19 +139,18 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					result.add( i, managedEntity );
 					continue;
 				}
+
+				if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// look for it in the SessionFactory, along with all the others
+					entityKeysToLoadFromCache.add( entityKey );
+					elementPositionsLoadedFromCache.add( i );
+					result.add( i, entityKey );
+					continue;
+				}
 			}
 
 			// if we did not hit any of the continues above, then we need to batch
@@ -167,6 +168,30 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			elementPositionsLoadedByBatch.add( i );
 		}
 
+		if ( !entityKeysToLoadFromCache.isEmpty() ) {
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					session,
+					lockOptions.getLockMode(),
+					getLoadable().getEntityPersister(),
+					entityKeysToLoadFromCache
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				final Integer position = elementPositionsLoadedFromCache.get( i );
+				if ( cachedEntities[i] != null ) {
+					result.set( position, cachedEntities[i] );
+				}
+				else {
+					// not cached, batch load the entity state
+					idsInBatch.add( entityKeysToLoadFromCache.get( i ).getIdentifier() );
+					if ( idsInBatch.size() >= maxBatchSize ) {
+						loadEntitiesById( idsInBatch, lockOptions, session );
+						idsInBatch.clear();
+					}
+					elementPositionsLoadedByBatch.add( position );
+				}
+			}
+		}
+
 		if ( !idsInBatch.isEmpty() ) {
 			// we still have ids to load from the processing above since the last max-batch-size trigger,
 			// perform a load for them
@@ -304,6 +329,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Object> nonManagedIds = new ArrayList<>();
+			final List<EntityKey> entityKeysToLoadFromCache = new ArrayList<>();
 
 			final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 			for ( int i = 0; i < ids.length; i++ ) {
@@ -346,14 +372,10 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 				}
 
 				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							getLoadable().getEntityPersister(),
-							entityKey
-					);
+					// look for it in the SessionFactory, along with all the others
+					entityKeysToLoadFromCache.add( entityKey );
 				}
-
-				if ( managedEntity != null ) {
+				else if ( managedEntity != null ) {
 					foundAnyManagedEntities = true;
 					//noinspection unchecked
 					result.add( (T) managedEntity );
@@ -363,6 +385,25 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 				}
 			}
 
+			if ( !entityKeysToLoadFromCache.isEmpty() ) {
+				final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+						session,
+						lockOptions.getLockMode(),
+						getLoadable().getEntityPersister(),
+						entityKeysToLoadFromCache
+				);
+				for ( int i = 0; i < cachedEntities.length; i++ ) {
+					if ( cachedEntities[i] != null ) {
+						foundAnyManagedEntities = true;
+						//noinspection unchecked
+						result.add( (T) cachedEntities[i] );
+					}
+					else {
+						nonManagedIds.add( entityKeysToLoadFromCache.get( i ).getIdentifier() );
+					}
+				}
+			}
+
 			if ( foundAnyManagedEntities ) {
 				if ( nonManagedIds.isEmpty() ) {
 					// all of the given ids were already associated with the Session
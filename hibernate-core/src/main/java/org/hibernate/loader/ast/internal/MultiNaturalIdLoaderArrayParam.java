@@ -6,15 +6,12 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.Collections;
 import java.util.List;
 
-import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
-import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
 import org.hibernate.loader.ast.spi.SqlArrayMultiKeyLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.JdbcMapping;
@@ -32,26 +29,19 @@ import org.hibernate.type.BasicTypeRegistry;
 /**
  * Standard MultiNaturalIdLoader implementation
  */
-public class MultiNaturalIdLoaderArrayParam<E> implements MultiNaturalIdLoader<E>, SqlArrayMultiKeyLoader {
-	private final EntityMappingType entityDescriptor;
+public class MultiNaturalIdLoaderArrayParam<E> extends AbstractMultiNaturalIdLoader<E> implements SqlArrayMultiKeyLoader {
 	private final Class<?> keyArrayClass;
 
 	public MultiNaturalIdLoaderArrayParam(EntityMappingType entityDescriptor) {
+		super( entityDescriptor );
 		assert entityDescriptor.getNaturalIdMapping() instanceof SimpleNaturalIdMapping;
 
-		this.entityDescriptor = entityDescriptor;
-
 		final Class<?> keyClass = entityDescriptor.getNaturalIdMapping().getJavaType().getJavaTypeClass();
 		this.keyArrayClass = LoaderHelper.createTypedArray( keyClass, 0 ).getClass();
 	}
 
-	@Override
-	public EntityMappingType getLoadable() {
-		return entityDescriptor;
-	}
-
 	protected SimpleNaturalIdMapping getNaturalIdMapping()  {
-		return (SimpleNaturalIdMapping) entityDescriptor.getNaturalIdMapping();
+		return (SimpleNaturalIdMapping) getLoadable().getNaturalIdMapping();
 	}
 
 	protected BasicAttributeMapping getNaturalIdAttribute()  {
@@ -59,26 +49,18 @@ public class MultiNaturalIdLoaderArrayParam<E> implements MultiNaturalIdLoader<E
 	}
 
 	@Override
-	public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
-		if ( naturalIds == null ) {
-			throw new IllegalArgumentException( "`naturalIds` is null" );
-		}
-
-		if ( naturalIds.length == 0 ) {
-			return Collections.emptyList();
-		}
-
+	protected List<E> loadEntitiesWithUnresolvedNaturalIds(
+			Object[] naturalIds,
+			MultiNaturalIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
-			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef( "MultiNaturalIdLoaderArrayParam#multiLoadStarting - `%s`", entityDescriptor.getEntityName() );
+			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef( "MultiNaturalIdLoaderArrayParam#multiLoadStarting - `%s`", getLoadable().getEntityName() );
 		}
 
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		naturalIds = LoaderHelper.normalizeKeys( naturalIds, getNaturalIdAttribute(), session, sessionFactory );
 
-		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
-				? new LockOptions( LockMode.NONE )
-				: loadOptions.getLockOptions();
-
 		final BasicTypeRegistry basicTypeRegistry = sessionFactory.getTypeConfiguration().getBasicTypeRegistry();
 		final BasicType<?> arrayBasicType = basicTypeRegistry.getRegisteredType( keyArrayClass );
 		final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
@@ -6,43 +6,46 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.Collections;
 import java.util.List;
 
-import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
-import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
 import org.hibernate.loader.ast.spi.SqlInPredicateMultiKeyLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
-import org.hibernate.sql.results.LoadingLogger;
 
 /**
  * MultiNaturalIdLoader implementation using SQL IN predicate to specify the ids
  */
-public class MultiNaturalIdLoaderInPredicate<E> implements MultiNaturalIdLoader<E>, SqlInPredicateMultiKeyLoader {
-	private final EntityMappingType entityDescriptor;
+public class MultiNaturalIdLoaderInPredicate<E> extends AbstractMultiNaturalIdLoader<E> implements SqlInPredicateMultiKeyLoader {
 
 	public MultiNaturalIdLoaderInPredicate(EntityMappingType entityDescriptor) {
-		this.entityDescriptor = entityDescriptor;
+		super( entityDescriptor );
 	}
 
 	@Override
 	public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions options, SharedSessionContractImplementor session) {
-		if ( naturalIds == null ) {
-			throw new IllegalArgumentException( "`naturalIds` is null" );
-		}
+		final List<E> results = super.multiLoad( naturalIds, options, session );
 
-		if ( naturalIds.length == 0 ) {
-			return Collections.emptyList();
+		if ( results.size() == 1 ) {
+			return results;
 		}
 
-		if ( LoadingLogger.LOGGER.isTraceEnabled() ) {
-			LoadingLogger.LOGGER.tracef( "Starting multi natural-id loading for `%s`", entityDescriptor.getEntityName() );
+		if ( options.isOrderReturnEnabled() ) {
+			throw new UnsupportedOperationException( "Support for ordered loading by multiple natural-id values is not supported" );
 		}
 
+		return results;
+	}
+
+	@Override
+	protected List<E> loadEntitiesWithUnresolvedNaturalIds(
+			Object[] naturalIds,
+			MultiNaturalIdLoadOptions options,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final EntityMappingType entityDescriptor = getLoadable();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
 		final int maxBatchSize;
@@ -59,10 +62,6 @@ public class MultiNaturalIdLoaderInPredicate<E> implements MultiNaturalIdLoader<
 
 		final int batchSize = Math.min( maxBatchSize, naturalIds.length );
 
-		final LockOptions lockOptions = (options.getLockOptions() == null)
-				? new LockOptions( LockMode.NONE )
-				: options.getLockOptions();
-
 		final MultiNaturalIdLoadingBatcher batcher = new MultiNaturalIdLoadingBatcher(
 				entityDescriptor,
 				entityDescriptor.getNaturalIdMapping(),
@@ -77,21 +76,6 @@ public class MultiNaturalIdLoaderInPredicate<E> implements MultiNaturalIdLoader<
 				sessionFactory
 		);
 
-		final List<E> results = batcher.multiLoad( naturalIds, options, session );
-
-		if ( results.size() == 1 ) {
-			return results;
-		}
-
-		if ( options.isOrderReturnEnabled() ) {
-			throw new UnsupportedOperationException( "Support for ordered loading by multiple natural-id values is not supported" );
-		}
-
-		return results;
-	}
-
-	@Override
-	public EntityMappingType getLoadable() {
-		return entityDescriptor;
+		return batcher.multiLoad( naturalIds, options, session );
 	}
 }
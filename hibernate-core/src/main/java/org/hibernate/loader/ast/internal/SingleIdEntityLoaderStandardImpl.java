@@ -57,12 +57,15 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		this.loadPlanCreator = loadPlanCreator;
 		// see org.hibernate.persister.entity.AbstractEntityPersister#createLoaders
 		// we should preload a few - maybe LockMode.NONE and LockMode.READ
-		final LockOptions lockOptions = LockOptions.NONE;
-		final LoadQueryInfluencers influencers = new LoadQueryInfluencers( sessionFactory );
-		final SingleIdLoadPlan<T> plan = loadPlanCreator.apply( LockOptions.NONE, influencers );
-		if ( isLoadPlanReusable( lockOptions, influencers ) ) {
-			selectByLockMode.put( lockOptions.getLockMode(), plan );
+		if ( !sessionFactory.getSessionFactoryOptions().isDelayStaticSqlGenerationEnabled() ) {
+			final LockOptions lockOptions = LockOptions.NONE;
+			final LoadQueryInfluencers influencers = new LoadQueryInfluencers( sessionFactory );
+			final SingleIdLoadPlan<T> plan = loadPlanCreator.apply( LockOptions.NONE, influencers );
+			if ( isLoadPlanReusable( lockOptions, influencers ) ) {
+				selectByLockMode.put( lockOptions.getLockMode(), plan );
+			}
 		}
+		// else created on first use by resolveLoadPlan()
 	}
 
 	@Override
@@ -21,6 +21,8 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -187,16 +189,21 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 		final SessionImplementor session = context.getSession();
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 
-		final Object cachedResolution =
-				persistenceContext.getNaturalIdResolutions()
-						.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
-		if ( cachedResolution == INVALID_NATURAL_ID_REFERENCE ) {
-			// the entity is deleted, although not yet flushed - return null
-			return null;
-		}
-		else {
-			if ( cachedResolution != null ) {
-				return (T) getIdentifierLoadAccess().getReference( cachedResolution );
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent naturalIdResolutionEvent = eventManager.beginNaturalIdResolutionEvent();
+		boolean cached = false;
+		Object id = null;
+		try {
+			final Object cachedResolution =
+					persistenceContext.getNaturalIdResolutions()
+							.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
+			if ( cachedResolution == INVALID_NATURAL_ID_REFERENCE ) {
+				// the entity is deleted, although not yet flushed - return null
+				cached = true;
+			}
+			else if ( cachedResolution != null ) {
+				cached = true;
+				id = cachedResolution;
 			}
 			else {
 				LoaderLogging.LOADER_LOGGER.debugf(
@@ -204,12 +211,20 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 						entityPersister().getEntityName(),
 						normalizedNaturalIdValue
 				);
-				final Object idFromDatabase =
-						entityPersister().getNaturalIdLoader()
-								.resolveNaturalIdToId( normalizedNaturalIdValue, session );
-				return idFromDatabase == null ? null : (T) getIdentifierLoadAccess().getReference( idFromDatabase );
+				id = entityPersister().getNaturalIdLoader()
+						.resolveNaturalIdToId( normalizedNaturalIdValue, session );
 			}
 		}
+		finally {
+			eventManager.completeNaturalIdResolutionEvent(
+					naturalIdResolutionEvent,
+					session,
+					entityPersister(),
+					cached,
+					id != null
+			);
+		}
+		return id == null ? null : (T) getIdentifierLoadAccess().getReference( id );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -222,10 +237,19 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 		final SessionImplementor session = context.getSession();
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent naturalIdResolutionEvent = eventManager.beginNaturalIdResolutionEvent();
 		final Object cachedResolution =
 				persistenceContext.getNaturalIdResolutions()
 						.findCachedIdByNaturalId( normalizedNaturalIdValue, entityPersister() );
 		if ( cachedResolution == INVALID_NATURAL_ID_REFERENCE ) {
+			eventManager.completeNaturalIdResolutionEvent(
+					naturalIdResolutionEvent,
+					session,
+					entityPersister(),
+					true,
+					false
+			);
 			return null;
 		}
 		else {
@@ -234,10 +258,12 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 					influencers.adjustFetchProfiles( disabledFetchProfiles, enabledFetchProfiles );
 			final EffectiveEntityGraph effectiveEntityGraph =
 					session.getLoadQueryInfluencers().applyEntityGraph( rootGraph, graphSemantic);
+			boolean found = false;
 			try {
 				final T loaded = cachedResolution != null
 						? (T) getIdentifierLoadAccess().load(cachedResolution)
 						: (T) entityPersister().getNaturalIdLoader().load( normalizedNaturalIdValue, this, session );
+				found = loaded != null;
 				if ( loaded != null ) {
 					final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( loaded );
 					final EntityEntry entry = lazyInitializer != null
@@ -251,6 +277,13 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 				return loaded;
 			}
 			finally {
+				eventManager.completeNaturalIdResolutionEvent(
+						naturalIdResolutionEvent,
+						session,
+						entityPersister(),
+						cachedResolution != null,
+						found
+				);
 				context.delayedAfterCompletion();
 				effectiveEntityGraph.clear();
 				influencers.setEnabledFetchProfileNames( fetchProfiles );
@@ -15,6 +15,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -39,8 +44,11 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IndexedCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Value;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -81,7 +89,11 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_CREATION;
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_CREATION_THREADS;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -179,18 +191,37 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().requireService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
+		final ExecutorService persisterCreationPool;
+		if ( getBoolean( PARALLEL_PERSISTER_CREATION, context.getSettings() ) ) {
+			// the persister constructors read types which the boot model resolves
+			// lazily and caches without synchronization, so resolve them upfront
+			resolveBootModelTypes( bootModel );
+			persisterCreationPool = createPersisterCreationPool( context.getSettings() );
+		}
+		else {
+			persisterCreationPool = null;
+		}
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					persisterCreationPool,
+					context
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					persisterCreationPool,
+					context
+			);
+		}
+		finally {
+			if ( persisterCreationPool != null ) {
+				persisterCreationPool.shutdownNow();
+			}
+		}
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
@@ -238,19 +269,28 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
+			ExecutorService persisterCreationPool,
 			RuntimeModelCreationContext modelCreationContext) {
-		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+		final List<PersistentClass> models = new ArrayList<>( entityBindings );
+		final List<EntityPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
+		for ( int i = 0; i < models.size(); i++ ) {
+			final PersistentClass model = models.get( i );
+			final EntityPersister cp = persisters.get( i );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -301,18 +341,28 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
+			ExecutorService persisterCreationPool,
 			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
-
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
+		final List<Collection> models = new ArrayList<>( collectionBindings );
+		final List<CollectionPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
+		for ( int i = 0; i < models.size(); i++ ) {
+			final Collection model = models.get( i );
+			final CollectionPersister persister = persisters.get( i );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
@@ -339,6 +389,116 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		}
 	}
 
+	/**
+	 * Resolve the lazily cached types of the boot model on the bootstrapping thread,
+	 * so that the persisters created concurrently only ever read them.
+	 */
+	private static void resolveBootModelTypes(MetadataImplementor bootModel) {
+		for ( Collection collection : bootModel.getCollectionBindings() ) {
+			collection.getCollectionType();
+			collection.getCollectionSemantics();
+			resolveType( collection.getKey() );
+			resolveType( collection.getElement() );
+			if ( collection instanceof IndexedCollection ) {
+				resolveType( ( (IndexedCollection) collection ).getIndex() );
+			}
+		}
+		for ( PersistentClass persistentClass : bootModel.getEntityBindings() ) {
+			resolveType( persistentClass.getIdentifier() );
+			resolveType( persistentClass.getIdentifierMapper() );
+			resolveType( persistentClass.getDiscriminator() );
+			for ( Property property : persistentClass.getPropertyClosure() ) {
+				resolveType( property.getValue() );
+			}
+		}
+	}
+
+	private static void resolveType(Value value) {
+		if ( value != null ) {
+			value.getType();
+			value.getSelectables();
+		}
+	}
+
+	/**
+	 * Create the fixed-size pool of daemon threads creating the persisters. The threads
+	 * use the context class loader of the bootstrapping thread, as the persisters may load
+	 * classes and resources through it.
+	 */
+	private static ExecutorService createPersisterCreationPool(Map<String, Object> settings) {
+		final int threads = getInt(
+				PARALLEL_PERSISTER_CREATION_THREADS,
+				settings,
+				Runtime.getRuntime().availableProcessors()
+		);
+		if ( threads < 1 ) {
+			throw new HibernateException(
+					"Invalid value for '" + PARALLEL_PERSISTER_CREATION_THREADS + "': " + threads
+			);
+		}
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(
+				threads,
+				runnable -> {
+					final Thread thread = new Thread(
+							runnable,
+							"hibernate-persister-creation-" + threadNumber.incrementAndGet()
+					);
+					thread.setDaemon( true );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				}
+		);
+	}
+
+	/**
+	 * Create the persisters for the given boot models, concurrently when a pool is given.
+	 * The persisters are returned in the order of the boot models, so that the
+	 * registration of the persisters is deterministic either way.
+	 */
+	private static <M, P> List<P> createPersisters(
+			List<M> models,
+			Function<M, P> persisterCreator,
+			ExecutorService persisterCreationPool) {
+		final List<P> persisters = new ArrayList<>( models.size() );
+		if ( persisterCreationPool == null ) {
+			for ( M model : models ) {
+				persisters.add( persisterCreator.apply( model ) );
+			}
+		}
+		else {
+			final List<Future<P>> tasks = new ArrayList<>( models.size() );
+			for ( M model : models ) {
+				tasks.add( persisterCreationPool.submit( () -> persisterCreator.apply( model ) ) );
+			}
+			for ( Future<P> task : tasks ) {
+				persisters.add( getPersister( task ) );
+			}
+		}
+		return persisters;
+	}
+
+	private static <P> P getPersister(Future<P> task) {
+		try {
+			return task.get();
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Unable to create persister", cause );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while creating persisters", e );
+		}
+	}
+
 	private static void registerEntityNameResolvers(
 			EntityPersister persister,
 			Set<EntityNameResolver> entityNameResolvers) {
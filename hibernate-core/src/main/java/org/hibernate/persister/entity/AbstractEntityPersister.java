@@ -64,6 +64,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.ImmutableSnapshotCacheEntryImpl;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -1224,6 +1225,11 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isImmutableSnapshotCacheEntriesEnabled()
+				&& !options.isStructuredCacheEntriesEnabled()
+				&& !entityMetamodel.isMutable() ) {
+			return new ImmutableSnapshotCacheEntryHelper( this );
+		}
 		else {
 			return options.isStructuredCacheEntriesEnabled()
 					? new StructuredCacheEntryHelper( this )
@@ -2572,10 +2578,14 @@ public abstract class AbstractEntityPersister
 			final SessionImplementor session) {
 		final BitSet mutablePropertiesIndexes = entityMetamodel.getMutablePropertiesIndexes();
 		final int estimatedSize = attributeNames == null ? 0 : attributeNames.length + mutablePropertiesIndexes.cardinality();
-		final List<Integer> fields = new ArrayList<>( estimatedSize );
 		if ( estimatedSize == 0 ) {
 			return ArrayHelper.EMPTY_INT_ARRAY;
 		}
+		// collect the positions into a primitive buffer (no boxing), using a bitmask
+		// of the already collected positions to skip duplicates without a scan
+		final int[] fields = new int[estimatedSize];
+		int count = 0;
+		final long[] collected = new long[( entityMetamodel.getPropertySpan() + Long.SIZE - 1 ) / Long.SIZE];
 		if ( !mutablePropertiesIndexes.isEmpty() ) {
 			// We have to check the state for "mutable" properties as dirty tracking isn't aware of mutable types
 			final Type[] propertyTypes = entityMetamodel.getPropertyTypes();
@@ -2584,7 +2594,8 @@ public abstract class AbstractEntityPersister
 					i = mutablePropertiesIndexes.nextSetBit(i + 1) ) {
 				// This is kindly borrowed from org.hibernate.type.TypeHelper.findDirty
 				if ( isDirty( currentState, previousState, propertyTypes, propertyCheckability, i, session ) ) {
-					fields.add( i );
+					fields[count++] = i;
+					markCollected( collected, i );
 				}
 			}
 		}
@@ -2617,8 +2628,9 @@ public abstract class AbstractEntityPersister
 					final String attributeName = attributeMapping.getAttributeName();
 					if ( isPrefix( attributeMapping, attributeNames[index] ) ) {
 						final int position = attributeMapping.getStateArrayPosition();
-						if ( propertyUpdateability[position] && !fields.contains( position ) ) {
-							fields.add( position );
+						if ( propertyUpdateability[position] && !isCollected( collected, position ) ) {
+							fields[count++] = position;
+							markCollected( collected, position );
 						}
 						index++;
 						if ( index < attributeNames.length ) {
@@ -2641,14 +2653,27 @@ public abstract class AbstractEntityPersister
 			else {
 				for ( String attributeName : attributeNames ) {
 					final Integer index = entityMetamodel.getPropertyIndexOrNull( attributeName );
-					if ( index != null && propertyUpdateability[index] && !fields.contains( index ) ) {
-						fields.add( index );
+					if ( index != null && propertyUpdateability[index] && !isCollected( collected, index ) ) {
+						fields[count++] = index;
+						markCollected( collected, index );
 					}
 				}
 			}
 		}
 
-		return toIntArray( fields );
+		return count == fields.length ? fields : Arrays.copyOf( fields, count );
+	}
+
+	/**
+	 * The {@code collected} bitmask has one word per 64 positions, so a single word
+	 * covers almost every entity, while wider entities are supported all the same.
+	 */
+	private static boolean isCollected(long[] collected, int position) {
+		return ( collected[position / Long.SIZE] & ( 1L << position ) ) != 0L;
+	}
+
+	private static void markCollected(long[] collected, int position) {
+		collected[position / Long.SIZE] |= 1L << position;
 	}
 
 	private boolean isDirty(
@@ -4973,6 +4998,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class ImmutableSnapshotCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final int[] assembledProperties;
+
+		private ImmutableSnapshotCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.assembledProperties = ImmutableSnapshotCacheEntryImpl.assembledProperties( persister.getPropertyTypes() );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return UnstructuredCacheEntry.INSTANCE;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new ImmutableSnapshotCacheEntryImpl( state, persister, version, session, entity, assembledProperties );
+		}
+	}
+
 	private static class StructuredCacheEntryHelper implements CacheEntryHelper {
 		private final EntityPersister persister;
 		private final StructuredCacheEntry structure;
@@ -35,7 +35,7 @@ public abstract class AbstractDeleteCoordinator
 		extends AbstractMutationCoordinator
 		implements DeleteCoordinator {
 	private final BasicBatchKey batchKey;
-	private final MutationOperationGroup staticOperationGroup;
+	private volatile MutationOperationGroup staticOperationGroup;
 
 	private MutationOperationGroup noVersionDeleteGroup;
 
@@ -45,15 +45,24 @@ public abstract class AbstractDeleteCoordinator
 		super( entityPersister, factory );
 
 		this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#DELETE" );
-		this.staticOperationGroup = generateOperationGroup( "", null, true, null );
-		if ( !entityPersister.isVersioned() ) {
-			noVersionDeleteGroup = staticOperationGroup;
+		if ( !factory.getSessionFactoryOptions().isDelayStaticSqlGenerationEnabled() ) {
+			this.staticOperationGroup = generateOperationGroup( "", null, true, null );
+			if ( !entityPersister.isVersioned() ) {
+				noVersionDeleteGroup = staticOperationGroup;
+			}
 		}
+		// else generated on first use
 	}
 
 	@Override
 	public MutationOperationGroup getStaticMutationOperationGroup() {
-		return staticOperationGroup;
+		MutationOperationGroup group = staticOperationGroup;
+		if ( group == null ) {
+			// generation was delayed; a concurrent generation yields an equivalent group
+			group = generateOperationGroup( "", null, true, null );
+			staticOperationGroup = group;
+		}
+		return group;
 	}
 
 	@Override
@@ -247,6 +256,7 @@ public abstract class AbstractDeleteCoordinator
 			Object[] loadedState,
 			Object version,
 			SharedSessionContractImplementor session) {
+		final MutationOperationGroup staticOperationGroup = getStaticMutationOperationGroup();
 		final boolean applyVersion;
 		final MutationOperationGroup operationGroupToUse;
 		if ( entity == null ) {
@@ -309,7 +319,7 @@ public abstract class AbstractDeleteCoordinator
 		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 		bindPartitionColumnValueBindings( loadedState, session, jdbcValueBindings );
 
-		applyId( id, rowId, mutationExecutor, staticOperationGroup, session );
+		applyId( id, rowId, mutationExecutor, getStaticMutationOperationGroup(), session );
 	}
 
 	private MutationExecutor executor(SharedSessionContractImplementor session, MutationOperationGroup group) {
@@ -318,7 +328,9 @@ public abstract class AbstractDeleteCoordinator
 
 	protected MutationOperationGroup resolveNoVersionDeleteGroup(SharedSessionContractImplementor session) {
 		if ( noVersionDeleteGroup == null ) {
-			noVersionDeleteGroup = generateOperationGroup( "", null, false, session );
+			noVersionDeleteGroup = entityPersister().isVersioned()
+					? generateOperationGroup( "", null, false, session )
+					: getStaticMutationOperationGroup();
 		}
 
 		return noVersionDeleteGroup;
@@ -53,7 +53,7 @@ import static org.hibernate.generator.EventType.INSERT;
  */
 @Internal
 public class InsertCoordinatorStandard extends AbstractMutationCoordinator implements InsertCoordinator {
-	private final MutationOperationGroup staticInsertGroup;
+	private volatile MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
 
 	public InsertCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
@@ -75,6 +75,10 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 			// static inserts as we will create them every time
 			staticInsertGroup = null;
 		}
+		else if ( factory.getSessionFactoryOptions().isDelayStaticSqlGenerationEnabled() ) {
+			// generated on first use
+			staticInsertGroup = null;
+		}
 		else {
 			staticInsertGroup = generateStaticOperationGroup();
 		}
@@ -82,7 +86,13 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 
 	@Override
 	public MutationOperationGroup getStaticMutationOperationGroup() {
-		return staticInsertGroup;
+		MutationOperationGroup group = staticInsertGroup;
+		if ( group == null && !entityPersister().getEntityMetamodel().isDynamicInsert() ) {
+			// generation was delayed; a concurrent generation yields an equivalent group
+			group = generateStaticOperationGroup();
+			staticInsertGroup = group;
+		}
+		return group;
 	}
 
 	@Override
@@ -178,6 +188,7 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 
 		final TableInclusionChecker tableInclusionChecker = getTableInclusionChecker( insertValuesAnalysis );
 
+		final MutationOperationGroup staticInsertGroup = getStaticMutationOperationGroup();
 		final MutationExecutor mutationExecutor = executor( session, staticInsertGroup, false );
 
 		decomposeForInsert(
@@ -79,7 +79,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 //	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( UpdateCoordinatorStandard.class );
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractEntityPersister.class );
 
-	private final MutationOperationGroup staticUpdateGroup;
+	private volatile MutationOperationGroup staticUpdateGroup;
 	private final BatchKey batchKey;
 
 	private final MutationOperationGroup versionUpdateGroup;
@@ -90,7 +90,9 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 		// NOTE : even given dynamic-update and/or dirty optimistic locking
 		// there are cases where we need the full static updates.
-		this.staticUpdateGroup = buildStaticUpdateGroup();
+		this.staticUpdateGroup = factory.getSessionFactoryOptions().isDelayStaticSqlGenerationEnabled()
+				? null // generated on first use
+				: buildStaticUpdateGroup();
 		this.versionUpdateGroup = buildVersionUpdateGroup();
 		if ( entityPersister.hasUpdateGeneratedProperties() ) {
 			// disable batching in case of update generated properties
@@ -126,7 +128,13 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 	@Override
 	public MutationOperationGroup getStaticMutationOperationGroup() {
-		return staticUpdateGroup;
+		MutationOperationGroup group = staticUpdateGroup;
+		if ( group == null ) {
+			// generation was delayed; a concurrent generation yields an equivalent group
+			group = buildStaticUpdateGroup();
+			staticUpdateGroup = group;
+		}
+		return group;
 	}
 
 	protected MutationOperationGroup getVersionUpdateGroup() {
@@ -762,6 +770,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
 
+		final MutationOperationGroup staticUpdateGroup = getStaticMutationOperationGroup();
 		final MutationExecutor mutationExecutor = executor( session, staticUpdateGroup, false );
 
 		decomposeForUpdate(
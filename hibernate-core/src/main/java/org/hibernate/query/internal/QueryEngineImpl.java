@@ -15,6 +15,7 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.hql.HqlTranslator;
@@ -64,7 +65,11 @@ public class QueryEngineImpl implements QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() ),
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						() -> sessionFactory.getFastSessionServices().getEventManager(),
+						sessionFactory.getProperties()
+				),
 				sessionFactory.getServiceRegistry().getService(NativeQueryInterpreter.class)
 		);
 	}
@@ -184,6 +189,7 @@ public class QueryEngineImpl implements QueryEngine {
 
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier,
 			Map<String, Object> properties) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
@@ -202,11 +208,11 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier, eventManagerSupplier );
 		}
 		else {
 			// disabled
-			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier );
+			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier, eventManagerSupplier );
 		}
 	}
 
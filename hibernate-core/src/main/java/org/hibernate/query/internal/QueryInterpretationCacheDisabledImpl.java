@@ -10,6 +10,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -27,9 +30,17 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 public class QueryInterpretationCacheDisabledImpl implements QueryInterpretationCache {
 
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final Supplier<EventManager> eventManagerSupplier;
 
 	public QueryInterpretationCacheDisabledImpl(Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( statisticsSupplier, () -> EmptyEventManager.INSTANCE );
+	}
+
+	public QueryInterpretationCacheDisabledImpl(
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier) {
 		this.statisticsSupplier = statisticsSupplier;
+		this.eventManagerSupplier = eventManagerSupplier;
 	}
 
 	@Override
@@ -63,45 +74,52 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 	@Override
 	public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			String queryString, Class<R> expectedResultType, HqlTranslator translator) {
-		final StatisticsImplementor statistics = statisticsSupplier.get();
-		final boolean stats = statistics.isStatisticsEnabled();
-		final long startTime = stats ? System.nanoTime() : 0L;
-
-		final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
-
-		final DomainParameterXref domainParameterXref;
-		final ParameterMetadataImplementor parameterMetadata;
-		if ( sqmStatement.getSqmParameters().isEmpty() ) {
-			domainParameterXref = DomainParameterXref.empty();
-			parameterMetadata = ParameterMetadataImpl.EMPTY;
-		}
-		else {
-			domainParameterXref = DomainParameterXref.from( sqmStatement );
-			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
-		}
-
-		if ( stats ) {
-			final long endTime = System.nanoTime();
-			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryCompiled( queryString, microseconds );
-		}
-
-		return new HqlInterpretation<>() {
-			@Override
-			public SqmStatement<R> getSqmStatement() {
-				return sqmStatement;
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent hqlInterpretationEvent = eventManager.beginHqlInterpretationEvent();
+		try {
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			final boolean stats = statistics.isStatisticsEnabled();
+			final long startTime = stats ? System.nanoTime() : 0L;
+
+			final SqmStatement<R> sqmStatement = translator.translate( queryString, expectedResultType );
+
+			final DomainParameterXref domainParameterXref;
+			final ParameterMetadataImplementor parameterMetadata;
+			if ( sqmStatement.getSqmParameters().isEmpty() ) {
+				domainParameterXref = DomainParameterXref.empty();
+				parameterMetadata = ParameterMetadataImpl.EMPTY;
 			}
-
-			@Override
-			public ParameterMetadataImplementor getParameterMetadata() {
-				return parameterMetadata;
+			else {
+				domainParameterXref = DomainParameterXref.from( sqmStatement );
+				parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
 			}
 
-			@Override
-			public DomainParameterXref getDomainParameterXref() {
-				return domainParameterXref;
+			if ( stats ) {
+				final long endTime = System.nanoTime();
+				final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryCompiled( queryString, microseconds );
 			}
-		};
+
+			return new HqlInterpretation<>() {
+				@Override
+				public SqmStatement<R> getSqmStatement() {
+					return sqmStatement;
+				}
+
+				@Override
+				public ParameterMetadataImplementor getParameterMetadata() {
+					return parameterMetadata;
+				}
+
+				@Override
+				public DomainParameterXref getDomainParameterXref() {
+					return domainParameterXref;
+				}
+			};
+		}
+		finally {
+			eventManager.completeHqlInterpretationEvent( hqlInterpretationEvent, queryString, false );
+		}
 	}
 
 	@Override
@@ -10,6 +10,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
@@ -43,14 +46,23 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final Supplier<EventManager> eventManagerSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, statisticsSupplier, () -> EmptyEventManager.INSTANCE );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			Supplier<EventManager> eventManagerSupplier) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.eventManagerSupplier = eventManagerSupplier;
 	}
 
 	@Override
@@ -107,31 +119,41 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 
-		final Object cacheKey = expectedResultType != null
-				? new HqlInterpretationCacheKey( queryString, expectedResultType )
-				: queryString;
+		final EventManager eventManager = eventManagerSupplier.get();
+		final HibernateMonitoringEvent hqlInterpretationEvent = eventManager.beginHqlInterpretationEvent();
+		boolean cacheHit = false;
+		try {
+			final Object cacheKey = expectedResultType != null
+					? new HqlInterpretationCacheKey( queryString, expectedResultType )
+					: queryString;
 
-		final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
-		if ( existing != null ) {
-			if ( statistics.isStatisticsEnabled() ) {
-				statistics.queryPlanCacheHit( queryString );
-			}
-			return (HqlInterpretation<R>) existing;
-		}
-		else if ( expectedResultType != null ) {
-			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
-			if ( existingQueryOnly != null ) {
+			final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
+			if ( existing != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
-				return (HqlInterpretation<R>) existingQueryOnly;
+				cacheHit = true;
+				return (HqlInterpretation<R>) existing;
+			}
+			else if ( expectedResultType != null ) {
+				final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
+				if ( existingQueryOnly != null ) {
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.queryPlanCacheHit( queryString );
+					}
+					cacheHit = true;
+					return (HqlInterpretation<R>) existingQueryOnly;
+				}
 			}
-		}
 
-		final HqlInterpretation<R> hqlInterpretation =
-				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
-		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
-		return hqlInterpretation;
+			final HqlInterpretation<R> hqlInterpretation =
+					createHqlInterpretation( queryString, expectedResultType, translator, statistics );
+			hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+			return hqlInterpretation;
+		}
+		finally {
+			eventManager.completeHqlInterpretationEvent( hqlInterpretationEvent, queryString, cacheHit );
+		}
 	}
 
 	protected static <R> HqlInterpretation<R> createHqlInterpretation(
@@ -6,8 +6,8 @@
  */
 package org.hibernate.resource.beans.internal;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.resource.beans.container.spi.BeanContainer;
 import org.hibernate.resource.beans.container.spi.ContainedBean;
@@ -23,7 +23,7 @@ import org.hibernate.service.spi.Stoppable;
  * @author Steve Ebersole
  */
 public class ManagedBeanRegistryImpl implements ManagedBeanRegistry, BeanContainer.LifecycleOptions, Stoppable {
-	private final Map<String,ManagedBean<?>> registrations = new HashMap<>();
+	private final Map<String,ManagedBean<?>> registrations = new ConcurrentHashMap<>();
 
 	private final BeanContainer beanContainer;
 
@@ -79,9 +79,10 @@ public class ManagedBeanRegistryImpl implements ManagedBeanRegistry, BeanContain
 			}
 		}
 
-		registrations.put( beanClass.getName(), bean );
-
-		return bean;
+		// another thread may have registered the same bean in the meantime
+		final ManagedBean<?> registered = registrations.putIfAbsent( beanClass.getName(), bean );
+		//noinspection unchecked
+		return registered == null ? bean : (ManagedBean<T>) registered;
 	}
 
 	@Override
@@ -123,9 +124,10 @@ public class ManagedBeanRegistryImpl implements ManagedBeanRegistry, BeanContain
 			}
 		}
 
-		registrations.put( key, bean );
-
-		return bean;
+		// another thread may have registered the same bean in the meantime
+		final ManagedBean<?> registered = registrations.putIfAbsent( key, bean );
+		//noinspection unchecked
+		return registered == null ? bean : (ManagedBean<T>) registered;
 	}
 
 	@Override
@@ -328,6 +328,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				metadataForCache = null;
 			}
 			else {
+				factory.getCache().getTimestampsCache().beforeCacheableQueryExecution(
+						session.getCacheTransactionSynchronization().getCachingTimestamp(),
+						session
+				);
 				// If we need to put the values into the cache, we need to be able to capture the JdbcValuesMetadata
 				final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( resultSetAccess );
 				jdbcValuesMapping = mappingProducer.resolve( capturingMetadata, session.getLoadQueryInfluencers(), factory );
@@ -6,7 +6,9 @@
  */
 package org.hibernate.sql.results.graph.entity;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.Hibernate;
@@ -62,6 +64,7 @@ import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.embeddable.internal.EmbeddableAssembler;
 import org.hibernate.sql.results.internal.NullValueAssembler;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -311,6 +314,41 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			shallowCached = true;
 			// Inform sub-initializers if this is a query cache hit for a shallow entry
 			markSubInitializersAsShallowCached();
+			if ( isResultInitializer() ) {
+				preloadShallowCachedEntities( rowProcessingState );
+			}
+		}
+	}
+
+	/**
+	 * A shallow query cache entry only contains the primary keys of the entities,
+	 * which are then loaded one row at a time. Instead, we collect the primary keys
+	 * of all cached rows upfront and load the entities with a single multi-load,
+	 * which checks the second-level cache in bulk and loads the misses with a
+	 * single query.
+	 */
+	private void preloadShallowCachedEntities(RowProcessingState rowProcessingState) {
+		final SharedSessionContractImplementor session = rowProcessingState.getSession();
+		if ( identifierAssembler instanceof BasicResultAssembler<?> basicIdentifierAssembler
+				&& rowProcessingState instanceof RowProcessingStateStandardImpl standardRowProcessingState
+				&& standardRowProcessingState.isBeforeFirst()
+				&& !session.isStatelessSession() ) {
+			final List<Object> ids = new ArrayList<>();
+			while ( standardRowProcessingState.next() ) {
+				final Object id = basicIdentifierAssembler.assemble( standardRowProcessingState );
+				if ( id != null ) {
+					ids.add( id );
+				}
+			}
+			standardRowProcessingState.beforeFirst();
+			if ( ids.size() > 1 ) {
+				session.asSessionImplementor()
+						.byMultipleIds( entityDescriptor.getEntityName() )
+						.with( session.getCacheMode() )
+						.enableSessionCheck( true )
+						.enableOrderedReturn( false )
+						.multiLoad( ids );
+			}
 		}
 	}
 
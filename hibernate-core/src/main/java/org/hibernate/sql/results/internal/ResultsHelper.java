@@ -14,6 +14,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -297,7 +298,9 @@ public class ResultsHelper {
 			version = null;
 		}
 
-		final CollectionCacheEntry entry = new CollectionCacheEntry( collectionInstance, collectionDescriptor );
+		final CollectionCacheEntry entry = factory.getSessionFactoryOptions().isCompactCollectionCacheEntriesEnabled()
+				? CompactCollectionCacheEntry.create( collectionInstance, collectionDescriptor )
+				: new CollectionCacheEntry( collectionInstance, collectionDescriptor );
 		final CollectionDataAccess cacheAccess = collectionDescriptor.getCacheAccessStrategy();
 		final Object cacheKey = cacheAccess.generateCacheKey(
 				key,
@@ -14,6 +14,8 @@ import java.util.Locale;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -151,6 +153,9 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final TypeConfiguration typeConfiguration = session.getTypeConfiguration();
 		final QueryOptions queryOptions = rowProcessingState.getQueryOptions();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent resultsHydrationEvent = eventManager.beginResultsHydrationEvent();
+		int readRows = 0;
 		RuntimeException ex = null;
 		persistenceContext.beforeLoad();
 		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
@@ -175,7 +180,6 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 
 			rowReader.getInitializersList().startLoading( rowProcessingState );
 
-			int readRows = 0;
 			if ( uniqueSemantic == UniqueSemantic.FILTER
 					|| uniqueSemantic == UniqueSemantic.ASSERT && rowProcessingState.hasCollectionInitializers()
 					|| uniqueSemantic == UniqueSemantic.ALLOW && isEntityResultType ) {
@@ -224,6 +228,12 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 			ex = e;
 		}
 		finally {
+			eventManager.completeResultsHydrationEvent(
+					resultsHydrationEvent,
+					session,
+					rowReader.getDomainResultResultJavaType(),
+					readRows
+			);
 			try {
 				jdbcValues.finishUp( session );
 				persistenceContext.afterLoad();
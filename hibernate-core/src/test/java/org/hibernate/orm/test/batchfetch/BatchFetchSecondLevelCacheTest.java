@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the entities queued for batch fetching which are in the
+ * second-level cache are left out of the batch, and that the queued keys
+ * are looked up in the cache in a single bulk operation.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				BatchFetchSecondLevelCacheTest.Parent.class,
+				BatchFetchSecondLevelCacheTest.CachedChild.class
+		},
+		sharedCacheMode = SharedCacheMode.ENABLE_SELECTIVE,
+		accessType = AccessType.READ_WRITE
+)
+@SessionFactory
+public class BatchFetchSecondLevelCacheTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final CachedChild child = new CachedChild( i, "child " + i );
+				session.persist( child );
+				session.persist( new Parent( i, child ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( CachedChild.class, 2 );
+		scope.getSessionFactory().getCache().evictEntityData( CachedChild.class, 4 );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Parent" ).executeUpdate();
+			session.createMutationQuery( "delete CachedChild" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntitiesAreNotBatchFetched(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inSession( session -> {
+			final List<Parent> parents = session.createSelectionQuery( "from Parent order by id", Parent.class )
+					.getResultList();
+			for ( Parent parent : parents ) {
+				assertThat( Hibernate.isInitialized( parent.getChild() ) ).isFalse();
+			}
+
+			final CacheGetCounter cacheGets = new CacheGetCounter();
+			session.addEventListeners( cacheGets );
+			statistics.clear();
+
+			Hibernate.initialize( parents.get( 1 ).getChild() );
+
+			// only the children which are not cached were loaded by the batch
+			assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+			assertThat( Hibernate.isInitialized( parents.get( 3 ).getChild() ) ).isTrue();
+			assertThat( Hibernate.isInitialized( parents.get( 0 ).getChild() ) ).isFalse();
+			assertThat( Hibernate.isInitialized( parents.get( 2 ).getChild() ) ).isFalse();
+			assertThat( Hibernate.isInitialized( parents.get( 4 ).getChild() ) ).isFalse();
+
+			// one get for the initialized child, and one bulk get for the queued children
+			assertThat( cacheGets.count ).isEqualTo( 2 );
+		} );
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int count;
+
+		@Override
+		public void cacheGetStart() {
+			count++;
+		}
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private CachedChild child;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, CachedChild child) {
+			this.id = id;
+			this.child = child;
+		}
+
+		public CachedChild getChild() {
+			return child;
+		}
+	}
+
+	@Entity(name = "CachedChild")
+	@Cacheable
+	@BatchSize(size = 10)
+	public static class CachedChild {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public CachedChild() {
+		}
+
+		public CachedChild(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
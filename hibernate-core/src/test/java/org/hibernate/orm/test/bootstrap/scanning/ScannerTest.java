@@ -9,22 +9,31 @@ package org.hibernate.orm.test.bootstrap.scanning;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.AbstractScannerImpl;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
@@ -32,10 +41,19 @@ import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer;
 import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
+import org.hibernate.testing.orm.jpa.PersistenceUnitDescriptorAdapter;
 import org.hibernate.testing.orm.junit.JiraKey;
 import org.hibernate.testing.util.ServiceRegistryUtil;
 import org.junit.jupiter.api.Test;
 
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
 
 /**
  * @author Emmanuel Bernard
@@ -71,6 +89,108 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testNativeScannerWithArchiveIndex() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		final File indexedPar = new File( defaultPar.getParentFile(), "indexeddefaultpar.par" );
+		final JavaArchive archive = ShrinkWrap.createFromZipFile( JavaArchive.class, defaultPar );
+		archive.add( new ByteArrayAsset( buildIndex( ApplicationServer.class, Version.class ) ), AbstractScannerImpl.ARCHIVE_INDEX_NAME );
+		archive.as( ZipExporter.class ).exportTo( indexedPar, true );
+		addPackageToClasspath( indexedPar );
+
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( indexedPar.toURL() );
+		final ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		final ScanResult scanResult = new StandardScanner().scan( env, options, StandardScanParameters.INSTANCE );
+
+		// classes missing from the index are still found by reading them
+		validateDefaultParScanResult( scanResult );
+		assertClassesContained( scanResult, ApplicationServer.class );
+		assertClassesContained( scanResult, Version.class );
+	}
+
+	@Test
+	public void testArchiveIndexReplacesClassFileReading() throws Exception {
+		final String entryName = ApplicationServer.class.getName().replace( '.', '/' ) + ".class";
+		final InputStreamAccess streamAccess = new InputStreamAccess() {
+			@Override
+			public String getStreamName() {
+				return entryName;
+			}
+
+			@Override
+			public InputStream accessInputStream() {
+				throw new AssertionError( "Indexed class file should not be read" );
+			}
+		};
+
+		final ScanResult scanResult = scanEntry( entryName, streamAccess, Index.of( ApplicationServer.class ) );
+
+		assertThat( scanResult.getLocatedClasses() ).hasSize( 1 );
+		final ClassDescriptor classDescriptor = scanResult.getLocatedClasses().iterator().next();
+		assertThat( classDescriptor.getName() ).isEqualTo( ApplicationServer.class.getName() );
+		assertThat( classDescriptor.getCategorization() ).isEqualTo( ClassDescriptor.Categorization.MODEL );
+	}
+
+	@Test
+	public void testArchiveIndexIsNotUsedOutsideOfTheArchiveRoot() throws Exception {
+		final String entryName = "WEB-INF/classes/" + ApplicationServer.class.getName().replace( '.', '/' ) + ".class";
+		final byte[] classFile;
+		try ( InputStream stream = ApplicationServer.class.getResourceAsStream( "ApplicationServer.class" ) ) {
+			classFile = stream.readAllBytes();
+		}
+		final AtomicInteger reads = new AtomicInteger();
+		final InputStreamAccess streamAccess = new ByteArrayInputStreamAccess( entryName, classFile ) {
+			@Override
+			public InputStream accessInputStream() {
+				reads.incrementAndGet();
+				return super.accessInputStream();
+			}
+		};
+
+		final ScanResult scanResult = scanEntry( entryName, streamAccess, Index.of( ApplicationServer.class ) );
+
+		assertThat( reads ).hasValue( 1 );
+		assertClassesContained( scanResult, ApplicationServer.class );
+	}
+
+	private static ScanResult scanEntry(String entryName, InputStreamAccess streamAccess, Index archiveIndex) {
+		final ScanResultCollector collector = new ScanResultCollector(
+				new StandardJpaScanEnvironmentImpl( new PersistenceUnitDescriptorAdapter() ),
+				new StandardScanOptions( "class", false ),
+				StandardScanParameters.INSTANCE
+		);
+		final ArchiveContext context = new AbstractScannerImpl.ArchiveContextImpl( true, collector, archiveIndex );
+		final ArchiveEntry entry = new ArchiveEntry() {
+			@Override
+			public String getName() {
+				return entryName;
+			}
+
+			@Override
+			public String getNameWithinArchive() {
+				return entryName;
+			}
+
+			@Override
+			public InputStreamAccess getStreamAccess() {
+				return streamAccess;
+			}
+		};
+		context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
+		return collector.toScanResult();
+	}
+
+	private static byte[] buildIndex(Class<?>... classes) throws IOException {
+		final Indexer indexer = new Indexer();
+		for ( Class<?> indexedClass : classes ) {
+			indexer.indexClass( indexedClass );
+		}
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		new IndexWriter( stream ).write( indexer.complete() );
+		return stream.toByteArray();
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
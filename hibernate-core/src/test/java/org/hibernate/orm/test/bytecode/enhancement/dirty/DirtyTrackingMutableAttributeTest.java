@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.Date;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+/**
+ * Attributes of a mutable type are both reported by the dirty tracker and found
+ * dirty by comparing the state, make sure they are only updated once.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(inlineDirtyChecking = true)
+public class DirtyTrackingMutableAttributeTest extends BaseCoreFunctionalTestCase {
+
+	public static final int ID = 1;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { TestEntity.class, WideEntity.class };
+	}
+
+	@Before
+	public void setUp() {
+		inTransaction(
+				session -> {
+					TestEntity testEntity = new TestEntity( ID );
+					testEntity.setName( "before" );
+					testEntity.setCreated( new Date( 0L ) );
+					testEntity.setModified( new Date( 0L ) );
+					session.persist( testEntity );
+
+					WideEntity wideEntity = new WideEntity( ID );
+					wideEntity.setName( "before" );
+					wideEntity.setModified( new Date( 0L ) );
+					session.persist( wideEntity );
+				}
+		);
+	}
+
+	@Test
+	public void testTrackedAndMutableChanges() {
+		inTransaction(
+				session -> {
+					TestEntity entity = session.find( TestEntity.class, ID );
+					entity.setName( "after" );
+					// tracked by the enhanced setter and dirty by state comparison
+					entity.setModified( new Date( 2000L ) );
+					// only dirty by state comparison
+					entity.getCreated().setTime( 1000L );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					TestEntity entity = session.find( TestEntity.class, ID );
+					assertThat( entity.getName() ).isEqualTo( "after" );
+					assertThat( entity.getCreated().getTime() ).isEqualTo( 1000L );
+					assertThat( entity.getModified().getTime() ).isEqualTo( 2000L );
+				}
+		);
+	}
+
+	@Test
+	public void testTrackedAndMutableChangesBeyondSixtyFourAttributes() {
+		inTransaction(
+				session -> {
+					WideEntity entity = session.find( WideEntity.class, ID );
+					entity.setName( "after" );
+					// tracked by the enhanced setter and dirty by state comparison, past the 64th position
+					entity.setModified( new Date( 2000L ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					WideEntity entity = session.find( WideEntity.class, ID );
+					assertThat( entity.getName() ).isEqualTo( "after" );
+					assertThat( entity.getModified().getTime() ).isEqualTo( 2000L );
+				}
+		);
+	}
+
+	@Entity(name = "TestEntity")
+	@DynamicUpdate
+	public static class TestEntity {
+		@Id
+		private Integer id;
+		private String name;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date created;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date modified;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public void setCreated(Date created) {
+			this.created = created;
+		}
+
+		public Date getModified() {
+			return modified;
+		}
+
+		public void setModified(Date modified) {
+			this.modified = modified;
+		}
+	}
+
+	/**
+	 * An entity with more than 64 attributes, the attributes which are modified
+	 * being sorted last
+	 */
+	@Entity(name = "WideEntity")
+	@DynamicUpdate
+	public static class WideEntity {
+		@Id
+		private Integer id;
+		private String a00, a01, a02, a03, a04, a05, a06, a07, a08, a09,
+			a10, a11, a12, a13, a14, a15, a16, a17, a18, a19,
+			a20, a21, a22, a23, a24, a25, a26, a27, a28, a29,
+			a30, a31, a32, a33, a34, a35, a36, a37, a38, a39,
+			a40, a41, a42, a43, a44, a45, a46, a47, a48, a49,
+			a50, a51, a52, a53, a54, a55, a56, a57, a58, a59,
+			a60, a61, a62, a63, a64, a65, a66, a67, a68, a69;
+		private String name;
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date modified;
+
+		public WideEntity() {
+		}
+
+		public WideEntity(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Date getModified() {
+			return modified;
+		}
+
+		public void setModified(Date modified) {
+			this.modified = modified;
+		}
+	}
+}
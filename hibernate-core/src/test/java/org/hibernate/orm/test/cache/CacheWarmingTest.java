@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the warming of the second level cache when the {@code SessionFactory} is created.
+ * <p>
+ * The data is prepared using the {@code SessionFactory} of the test, and the warming is
+ * tested using other ones sharing its database.
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+@DomainModel( annotatedClasses = CacheWarmingTest.Product.class )
+@SessionFactory
+public class CacheWarmingTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "first", true ) );
+			session.persist( new Product( 2, "second", false ) );
+			session.persist( new Product( 3, "third", false ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testWarmingFromQuery() {
+		final Map<String, Object> settings = Map.of(
+				AvailableSettings.CACHE_WARMUP_QUERY_PREFIX + ".Product", "select id from Product where hot = true",
+				AvailableSettings.CACHE_WARMUP_AWAIT, "true"
+		);
+		try ( SessionFactoryImplementor factory = buildSessionFactory( settings ) ) {
+			assertThat( factory.getCache().containsEntity( Product.class, 1 ) ).isTrue();
+			assertThat( factory.getCache().containsEntity( Product.class, 2 ) ).isFalse();
+			assertThat( factory.getCache().containsEntity( Product.class, 3 ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void testWarmingFromSnapshot(@TempDir Path snapshotDirectory) throws IOException {
+		final Map<String, Object> settings = Map.of(
+				AvailableSettings.CACHE_WARMUP_SNAPSHOT_SIZE_PREFIX + ".Product", "10",
+				AvailableSettings.CACHE_WARMUP_SNAPSHOT_DIRECTORY, snapshotDirectory.toString(),
+				AvailableSettings.CACHE_WARMUP_AWAIT, "true"
+		);
+		try ( SessionFactoryImplementor factory = buildSessionFactory( settings ) ) {
+			factory.inSession( session -> session.find( Product.class, 2 ) );
+		}
+		assertThat( Files.readAllLines( snapshotDirectory.resolve( Product.class.getName() + ".ids" ) ) )
+				.containsExactly( "2" );
+
+		try ( SessionFactoryImplementor factory = buildSessionFactory( settings ) ) {
+			assertThat( factory.getCache().containsEntity( Product.class, 1 ) ).isFalse();
+			assertThat( factory.getCache().containsEntity( Product.class, 2 ) ).isTrue();
+			assertThat( factory.getCache().containsEntity( Product.class, 3 ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void testCachedEntitiesNotLoadedAgain() {
+		final DomainDataStorageAccess storage = new SharedStorageAccess();
+		try ( SessionFactoryImplementor factory = buildSessionFactory(
+				Map.of( AvailableSettings.CACHE_REGION_FACTORY, new SharedRegionFactory( storage ) )
+		) ) {
+			factory.inSession( session -> session.find( Product.class, 1 ) );
+			assertThat( factory.getCache().containsEntity( Product.class, 1 ) ).isTrue();
+		}
+
+		final Map<String, Object> settings = Map.of(
+				AvailableSettings.CACHE_REGION_FACTORY, new SharedRegionFactory( storage ),
+				AvailableSettings.GENERATE_STATISTICS, "true",
+				AvailableSettings.CACHE_WARMUP_QUERY_PREFIX + ".Product", "select id from Product where hot = true",
+				AvailableSettings.CACHE_WARMUP_AWAIT, "true"
+		);
+		try ( SessionFactoryImplementor factory = buildSessionFactory( settings ) ) {
+			final Statistics statistics = factory.getStatistics();
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isOne();
+			assertThat( statistics.getSecondLevelCachePutCount() ).isZero();
+			assertThat( statistics.getEntityLoadCount() ).isZero();
+			// only the query selecting the identifiers
+			assertThat( statistics.getPrepareStatementCount() ).isOne();
+		}
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySettings( settings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Product.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Region factory sharing the storage of its entity region with the other
+	 * {@code SessionFactory} instances of the test
+	 */
+	public static class SharedRegionFactory extends CachingRegionFactory {
+		private final DomainDataStorageAccess storage;
+
+		public SharedRegionFactory(DomainDataStorageAccess storage) {
+			this.storage = storage;
+		}
+
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					storage,
+					getImplicitCacheKeysFactory(),
+					buildingContext
+			);
+		}
+	}
+
+	private static class SharedStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public void release() {
+			// shared by the factories
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private boolean hot;
+
+		protected Product() {
+		}
+
+		public Product(Integer id, String name, boolean hot) {
+			this.id = id;
+			this.name = name;
+			this.hot = hot;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isHot() {
+			return hot;
+		}
+	}
+}
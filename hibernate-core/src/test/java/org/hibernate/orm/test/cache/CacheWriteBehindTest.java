@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the cache entries of inserted and updated entities are written
+ * in bulk after the completion of the transaction when
+ * {@value AvailableSettings#USE_CACHE_WRITE_BEHIND} is enabled.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.CacheWriteBehindTest$CountingRegionFactory" ),
+				@Setting( name = AvailableSettings.USE_CACHE_WRITE_BEHIND, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = CacheWriteBehindTest.Product.class )
+@SessionFactory
+public class CacheWriteBehindTest {
+
+	private static final AtomicInteger PUTS = new AtomicInteger();
+	private static final AtomicInteger BULK_PUTS = new AtomicInteger();
+	private static final AtomicInteger FAILING_BULK_PUTS = new AtomicInteger();
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		PUTS.set( 0 );
+		BULK_PUTS.set( 0 );
+		FAILING_BULK_PUTS.set( 0 );
+		scope.getSessionFactory().getStatistics().clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Product( i, "Product " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testInsertsWrittenInBulk(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( PUTS.get() ).isZero();
+		assertThat( BULK_PUTS.get() ).isOne();
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 10 );
+
+		statistics.clear();
+		scope.inSession( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				assertThat( session.find( Product.class, i ).getName() ).isEqualTo( "Product " + i );
+			}
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testUpdatesWrittenInBulk(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		PUTS.set( 0 );
+		BULK_PUTS.set( 0 );
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.find( Product.class, i ).setName( "Updated " + i );
+			}
+			session.flush();
+			// the entries are soft locked, but not written yet
+			assertThat( PUTS.get() ).isEqualTo( 10 );
+			assertThat( BULK_PUTS.get() ).isZero();
+		} );
+		assertThat( PUTS.get() ).isEqualTo( 10 );
+		assertThat( BULK_PUTS.get() ).isOne();
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 10 );
+
+		statistics.clear();
+		scope.inSession( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				assertThat( session.find( Product.class, i ).getName() ).isEqualTo( "Updated " + i );
+			}
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testUpdatesWrittenDespiteFailedInserts(SessionFactoryScope scope) {
+		FAILING_BULK_PUTS.set( 1 );
+		scope.inTransaction( session -> {
+			session.persist( new Product( 11, "Product 11" ) );
+			session.find( Product.class, 1 ).setName( "Updated 1" );
+		} );
+		assertThat( FAILING_BULK_PUTS.get() ).isZero();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "Updated 1" );
+			assertThat( session.find( Product.class, 11 ).getName() ).isEqualTo( "Product 11" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isOne();
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isOne();
+	}
+
+	@Test
+	public void testLocksReleasedAfterFailedUpdates(SessionFactoryScope scope) {
+		FAILING_BULK_PUTS.set( 1 );
+		scope.inTransaction( session -> session.find( Product.class, 1 ).setName( "Updated 1" ) );
+		assertThat( FAILING_BULK_PUTS.get() ).isZero();
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		// a held soft lock would prevent the entity from being cached again
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "Updated 1" ) );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isOne();
+		assertThat( statistics.getSecondLevelCachePutCount() ).isOne();
+
+		statistics.clear();
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "Updated 1" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isOne();
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					getImplicitCacheKeysFactory(),
+					buildingContext
+			);
+		}
+	}
+
+	private static class CountingStorageAccess extends MapStorageAccessImpl {
+		private boolean bulk;
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( !bulk ) {
+				PUTS.incrementAndGet();
+			}
+			super.putIntoCache( key, value, session );
+		}
+
+		@Override
+		public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+			if ( FAILING_BULK_PUTS.getAndUpdate( failures -> Math.max( failures - 1, 0 ) ) > 0 ) {
+				throw new CacheException( "Simulated failure" );
+			}
+			BULK_PUTS.incrementAndGet();
+			bulk = true;
+			try {
+				super.putAllIntoCache( entries, session );
+			}
+			finally {
+				bulk = false;
+			}
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the compact caching of collections of identifiers.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_COMPACT_COLLECTION_CACHE_ENTRIES, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				CompactCollectionCacheEntryTest.Department.class,
+				CompactCollectionCacheEntryTest.Employee.class
+		}
+)
+@SessionFactory
+public class CompactCollectionCacheEntryTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Department department = new Department( 1L, "R&D" );
+			session.persist( department );
+			for ( long id = 1; id <= 3; id++ ) {
+				final Employee employee = new Employee( id, "employee #" + id, department );
+				department.getEmployees().add( employee );
+				session.persist( employee );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Employee" ).executeUpdate();
+			session.createMutationQuery( "delete Department" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCompactEntryIsCached(SessionFactoryScope scope) {
+		scope.inSession( session -> Hibernate.initialize( session.find( Department.class, 1L ).getEmployees() ) );
+
+		final CollectionPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getCollectionDescriptor( Department.class.getName() + ".employees" );
+		scope.inSession( session -> {
+			final CollectionDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+			final Object cached = cacheAccess.get( session, cacheKey );
+			assertThat( cached ).isInstanceOf( CompactCollectionCacheEntry.class );
+			assertThat( ( (CompactCollectionCacheEntry) cached ).getState() )
+					.containsExactlyInAnyOrder( 1L, 2L, 3L );
+		} );
+	}
+
+	@Test
+	public void testElementsAreLoadedInBatch(SessionFactoryScope scope) {
+		scope.inSession( session -> Hibernate.initialize( session.find( Department.class, 1L ).getEmployees() ) );
+		scope.getSessionFactory().getCache().evictEntityData( Employee.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final List<Employee> employees = session.find( Department.class, 1L ).getEmployees();
+			Hibernate.initialize( employees );
+			assertThat( employees ).extracting( Employee::getName )
+					.containsExactlyInAnyOrder( "employee #1", "employee #2", "employee #3" );
+		} );
+
+		assertThat( statistics.getCollectionLoadCount() ).isZero();
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPrepareStatementCount() ).isOne();
+	}
+
+	@Entity(name = "Department")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Department {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "department")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<Employee> employees = new ArrayList<>();
+
+		protected Department() {
+		}
+
+		public Department(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Employee> getEmployees() {
+			return employees;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Department department;
+
+		protected Employee() {
+		}
+
+		public Employee(Long id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Department getDepartment() {
+			return department;
+		}
+	}
+}
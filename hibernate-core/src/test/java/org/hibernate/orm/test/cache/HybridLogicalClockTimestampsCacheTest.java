@@ -0,0 +1,377 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.HybridLogicalClockTimestampsCache;
+import org.hibernate.cache.internal.HybridLogicalClockTimestampsCacheFactory;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the {@link org.hibernate.cache.internal.HybridLogicalClockTimestampsCache} with
+ * two {@code SessionFactory} instances, standing for two nodes, sharing their query
+ * results and timestamps regions, along with the database of the test.
+ */
+@DomainModel( annotatedClasses = HybridLogicalClockTimestampsCacheTest.Product.class )
+@SessionFactory
+public class HybridLogicalClockTimestampsCacheTest {
+
+	private static final long CLOCK_SKEW = 10_000L * SimpleTimestamper.ONE_MS;
+
+	private final SharedStorageAccess timestampsStorage = new SharedStorageAccess();
+	private final SharedStorageAccess queryResultsStorage = new SharedStorageAccess();
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		Product.onLoad = null;
+		timestampsStorage.beforeConditionalPut = null;
+		scope.inTransaction( session -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInvalidationByNodeWithClockBehind() {
+		try ( SessionFactoryImplementor slowNode = buildSessionFactory( 0 );
+				SessionFactoryImplementor fastNode = buildSessionFactory( CLOCK_SKEW ) ) {
+			slowNode.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+			// cached with a timestamp ahead of the clock of the slow node
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first" );
+
+			slowNode.inTransaction( session -> session.persist( new Product( 2, "second", "blue" ) ) );
+			// the invalidation is stamped after the cached results nonetheless
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first", "second" );
+		}
+	}
+
+	@Test
+	public void testInvalidationDuringExecutionByNodeWithClockBehind() {
+		try ( SessionFactoryImplementor slowNode = buildSessionFactory( 0 );
+				SessionFactoryImplementor fastNode = buildSessionFactory( CLOCK_SKEW ) ) {
+			slowNode.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+
+			// the products are read by the fast node, then the slow node invalidates
+			// them, and only then does the fast node cache what it read
+			Product.onLoad = () -> slowNode.inTransaction(
+					session -> session.persist( new Product( 2, "second", "blue" ) )
+			);
+			assertThat( findProducts( fastNode ) ).containsExactly( "first" );
+			assertThat( Product.onLoad ).isNull();
+
+			// the invalidation is stamped after the cached results nonetheless
+			assertThat( findProducts( fastNode ) ).containsExactly( "first", "second" );
+			assertThat( findProducts( slowNode ) ).containsExactly( "first", "second" );
+		}
+	}
+
+	@Test
+	public void testCachedResultsSharedByNodes() {
+		try ( SessionFactoryImplementor slowNode = buildSessionFactory( 0 );
+				SessionFactoryImplementor fastNode = buildSessionFactory( CLOCK_SKEW ) ) {
+			fastNode.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first" );
+
+			slowNode.getStatistics().clear();
+			assertThat( findProductNames( slowNode ) ).containsExactly( "first" );
+			assertThat( slowNode.getStatistics().getQueryCacheHitCount() ).isOne();
+		}
+	}
+
+	@Test
+	public void testConcurrentAdvanceOfTheClockIsNotLost() {
+		try ( SessionFactoryImplementor slowNode = buildSessionFactory( 0 );
+				SessionFactoryImplementor fastNode = buildSessionFactory( CLOCK_SKEW ) ) {
+			slowNode.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+
+			// the fast node publishes the timestamp of its results between the read
+			// and the write of the clock by the invalidation of the slow node
+			timestampsStorage.beforeConditionalPut = () -> assertThat( findProductNames( fastNode ) )
+					.containsExactly( "first", "second" );
+			slowNode.inTransaction( session -> session.persist( new Product( 2, "second", "blue" ) ) );
+			assertThat( timestampsStorage.beforeConditionalPut ).isNull();
+
+			// had the clock gone back to the timestamp of the slow node, this invalidation
+			// would be stamped before the results of the fast node
+			slowNode.inTransaction( session -> session.persist( new Product( 3, "third", "green" ) ) );
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first", "second", "third" );
+		}
+	}
+
+	@Test
+	public void testUpToDateCheckReadsTheClockOnlyWhenBehind() {
+		try ( SessionFactoryImplementor slowNode = buildSessionFactory( 0 );
+				SessionFactoryImplementor fastNode = buildSessionFactory( CLOCK_SKEW ) ) {
+			fastNode.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first" );
+
+			// the local clock of the fast node is ahead of the timestamp of its results
+			timestampsStorage.readKeys.clear();
+			assertThat( findProductNames( fastNode ) ).containsExactly( "first" );
+			assertThat( timestampsStorage.readKeys )
+					.contains( "products" )
+					.doesNotContain( HybridLogicalClockTimestampsCache.CLOCK_KEY );
+
+			// the results are ahead of the local clock of the slow node
+			timestampsStorage.readKeys.clear();
+			assertThat( findProductNames( slowNode ) ).containsExactly( "first" );
+			assertThat( timestampsStorage.readKeys ).contains( HybridLogicalClockTimestampsCache.CLOCK_KEY );
+		}
+	}
+
+	@Test
+	public void testRegionWithoutConditionalPutsIsRejected() {
+		final SharedStorageAccess storage = new SharedStorageAccess();
+		storage.conditionalPuts = false;
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySettings( Map.of(
+						AvailableSettings.USE_SECOND_LEVEL_CACHE, "true",
+						AvailableSettings.USE_QUERY_CACHE, "true",
+						AvailableSettings.CACHE_REGION_FACTORY,
+						new SharedRegionFactory( storage, queryResultsStorage, 0 ),
+						AvailableSettings.QUERY_CACHE_FACTORY,
+						HybridLogicalClockTimestampsCacheFactory.class.getName()
+				) )
+				.build();
+		try {
+			assertThatThrownBy( () -> new MetadataSources( registry )
+					.addAnnotatedClass( Product.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.close() )
+					.hasStackTraceContaining( "does not support the conditional puts" );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	public void testInvalidationOfAllSpacesAtOnce() {
+		try ( SessionFactoryImplementor node = buildSessionFactory( 0 ) ) {
+			final int bulkPuts = timestampsStorage.bulkPuts;
+			node.inTransaction( session -> session.persist( new Product( 1, "first", "red" ) ) );
+			// one pre-invalidation and one invalidation of both tables
+			assertThat( timestampsStorage.bulkPuts - bulkPuts ).isEqualTo( 2 );
+			assertThat( timestampsStorage.getFromCache( "products", null ) )
+					.isNotNull()
+					.isEqualTo( timestampsStorage.getFromCache( "product_details", null ) );
+		}
+	}
+
+	private static List<String> findProductNames(SessionFactoryImplementor factory) {
+		return factory.fromSession( session -> session.createSelectionQuery(
+						"select name from Product order by id",
+						String.class
+				)
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> findProducts(SessionFactoryImplementor factory) {
+		return factory.fromSession( session -> session.createSelectionQuery(
+								"from Product order by id",
+								Product.class
+						)
+						.setCacheable( true )
+						.getResultList()
+						.stream()
+						.map( Product::getName )
+						.collect( Collectors.toList() ) );
+	}
+
+	private SessionFactoryImplementor buildSessionFactory(long clockSkew) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySettings( Map.of(
+						AvailableSettings.USE_SECOND_LEVEL_CACHE, "true",
+						AvailableSettings.USE_QUERY_CACHE, "true",
+						AvailableSettings.GENERATE_STATISTICS, "true",
+						AvailableSettings.CACHE_REGION_FACTORY,
+						new SharedRegionFactory( timestampsStorage, queryResultsStorage, clockSkew ),
+						AvailableSettings.QUERY_CACHE_FACTORY,
+						HybridLogicalClockTimestampsCacheFactory.class.getName()
+				) )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Product.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Region factory of a node, sharing its query results and timestamps storage
+	 * with the other nodes, and whose clock may be skewed
+	 */
+	public static class SharedRegionFactory extends CachingRegionFactory {
+		private final StorageAccess timestampsStorage;
+		private final StorageAccess queryResultsStorage;
+		private final long clockSkew;
+
+		public SharedRegionFactory(StorageAccess timestampsStorage, StorageAccess queryResultsStorage, long clockSkew) {
+			this.timestampsStorage = timestampsStorage;
+			this.queryResultsStorage = queryResultsStorage;
+			this.clockSkew = clockSkew;
+		}
+
+		@Override
+		public long nextTimestamp() {
+			return super.nextTimestamp() + clockSkew;
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return queryResultsStorage;
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return timestampsStorage;
+		}
+	}
+
+	private static class SharedStorageAccess extends MapStorageAccessImpl {
+		private int bulkPuts;
+		private final List<Object> readKeys = new ArrayList<>();
+		private boolean conditionalPuts = true;
+		/**
+		 * Run once, before the next conditional put
+		 */
+		private Runnable beforeConditionalPut;
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			readKeys.addAll( keys );
+			return super.getAllFromCache( keys, session );
+		}
+
+		@Override
+		public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+			bulkPuts++;
+			super.putAllIntoCache( entries, session );
+		}
+
+		@Override
+		public boolean supportsConditionalPuts() {
+			return conditionalPuts;
+		}
+
+		@Override
+		public Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			runBeforeConditionalPut();
+			return super.putIfAbsentIntoCache( key, value, session );
+		}
+
+		@Override
+		public boolean replaceInCache(
+				Object key,
+				Object expectedValue,
+				Object value,
+				SharedSessionContractImplementor session) {
+			runBeforeConditionalPut();
+			return super.replaceInCache( key, expectedValue, value, session );
+		}
+
+		private void runBeforeConditionalPut() {
+			final Runnable callback = beforeConditionalPut;
+			if ( callback != null ) {
+				beforeConditionalPut = null;
+				callback.run();
+			}
+		}
+
+		@Override
+		public void release() {
+			// shared by the nodes
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "products")
+	@SecondaryTable(name = "product_details")
+	public static class Product {
+		/**
+		 * Run once, when the next product is loaded
+		 */
+		static Runnable onLoad;
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Column(table = "product_details")
+		private String color;
+
+		protected Product() {
+		}
+
+		public Product(Integer id, String name, String color) {
+			this.id = id;
+			this.name = name;
+			this.color = color;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getColor() {
+			return color;
+		}
+
+		@PostLoad
+		void postLoad() {
+			final Runnable callback = onLoad;
+			if ( callback != null ) {
+				onLoad = null;
+				callback.run();
+			}
+		}
+	}
+}
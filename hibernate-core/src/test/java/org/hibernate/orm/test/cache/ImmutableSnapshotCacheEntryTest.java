@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.ImmutableSnapshotCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the caching of immutable entities as shared snapshots of their state.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_IMMUTABLE_SNAPSHOT_CACHE_ENTRIES, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				ImmutableSnapshotCacheEntryTest.Zone.class,
+				ImmutableSnapshotCacheEntryTest.Territory.class
+		}
+)
+@SessionFactory
+public class ImmutableSnapshotCacheEntryTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Zone zone = new Zone( 1, "Europe" );
+			session.persist( zone );
+			session.persist( new Territory( 1, "Belgium", zone ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Territory" ).executeUpdate();
+			session.createMutationQuery( "delete Zone" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSnapshotIsCached(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Territory.class );
+		assertThat( persister.isMutable() ).isFalse();
+		assertThat( persister.canUseReferenceCacheEntries() ).isFalse();
+
+		scope.inSession( session -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1, persister, scope.getSessionFactory(), null );
+			assertThat( cacheAccess.get( session, cacheKey ) ).isInstanceOf( ImmutableSnapshotCacheEntryImpl.class );
+		} );
+	}
+
+	@Test
+	public void testSnapshotIsShared(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final Territory first = scope.fromSession( session -> session.find( Territory.class, 1 ) );
+		final Territory second = scope.fromSession( session -> {
+			final Territory territory = session.find( Territory.class, 1 );
+			assertThat( territory.getZone().getName() ).isEqualTo( "Europe" );
+			return territory;
+		} );
+
+		assertThat( second ).isNotSameAs( first );
+		assertThat( second.getName() ).isEqualTo( "Belgium" ).isSameAs( first.getName() );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+	}
+
+	@Entity(name = "Zone")
+	@Immutable
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Zone {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		protected Zone() {
+		}
+
+		public Zone(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Territory")
+	@Immutable
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Territory {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@ManyToOne
+		private Zone zone;
+
+		protected Territory() {
+		}
+
+		public Territory(Integer id, String name, Zone zone) {
+			this.id = id;
+			this.name = name;
+			this.zone = zone;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Zone getZone() {
+			return zone;
+		}
+	}
+}
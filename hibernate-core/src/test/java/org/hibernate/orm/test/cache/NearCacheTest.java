@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.NearCacheRegionFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the near-cache kept in front of the domain data regions
+ * when {@value AvailableSettings#NEAR_CACHE_MAX_ENTRIES} is set.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.NearCacheTest$CountingRegionFactory" ),
+				@Setting( name = AvailableSettings.NEAR_CACHE_MAX_ENTRIES, value = "100" ),
+				@Setting( name = AvailableSettings.NEAR_CACHE_TTL, value = "60000" )
+		}
+)
+@DomainModel( annotatedClasses = NearCacheTest.Product.class )
+@SessionFactory
+public class NearCacheTest {
+
+	private static final AtomicInteger READS = new AtomicInteger();
+	private static final AtomicInteger TIMESTAMPS_READS = new AtomicInteger();
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Product( 1, "first" ) ) );
+		READS.set( 0 );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Product" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testHitsAreServedLocally(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() )
+				.isInstanceOf( NearCacheRegionFactory.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "first" ) );
+		assertThat( READS.get() ).isOne();
+
+		// a read-write hit neither reads the region nor the timestamps region before its time to live expired
+		TIMESTAMPS_READS.set( 0 );
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "first" ) );
+		assertThat( READS.get() ).isOne();
+		assertThat( TIMESTAMPS_READS.get() ).isZero();
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+	}
+
+	@Test
+	public void testUpdateInvalidatesNearCache(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "first" ) );
+
+		scope.inTransaction( session -> session.find( Product.class, 1 ).setName( "updated" ) );
+
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "updated" ) );
+	}
+
+	@Test
+	public void testEvictionInvalidatesNearCache(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "first" ) );
+
+		scope.getSessionFactory().getCache().evictEntityData( Product.class, 1 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> assertThat( session.find( Product.class, 1 ).getName() ).isEqualTo( "first" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isZero();
+		assertThat( statistics.getEntityLoadCount() ).isOne();
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					getImplicitCacheKeysFactory(),
+					buildingContext
+			);
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new CountingTimestampsStorageAccess();
+		}
+	}
+
+	private static class CountingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			READS.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+	}
+
+	private static class CountingTimestampsStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			TIMESTAMPS_READS.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			TIMESTAMPS_READS.incrementAndGet();
+			return super.getAllFromCache( keys, session );
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.EntityReadWriteAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests that the read-write access strategies only serialize the operations
+ * on the same key, and not the operations on the whole region.
+ */
+public class ReadWriteAccessContentionTest {
+
+	private static final Integer BLOCKED_KEY = 1;
+	private static final Integer OTHER_KEY = 2;
+
+	private final CountDownLatch blocked = new CountDownLatch( 1 );
+	private final CountDownLatch release = new CountDownLatch( 1 );
+
+	private ExecutorService executor;
+	private SharedSessionContractImplementor session;
+	private EntityReadWriteAccess access;
+
+	@BeforeEach
+	public void setUp() {
+		executor = Executors.newFixedThreadPool( 3 );
+
+		final CacheTransactionSynchronization synchronization = mock( CacheTransactionSynchronization.class );
+		final AtomicLong clock = new AtomicLong();
+		when( synchronization.getCachingTimestamp() ).thenAnswer( invocation -> clock.incrementAndGet() );
+		session = mock( SharedSessionContractImplementor.class );
+		when( session.getCacheTransactionSynchronization() ).thenReturn( synchronization );
+
+		final RegionFactory regionFactory = mock( RegionFactory.class );
+		when( regionFactory.nextTimestamp() ).thenReturn( 1L );
+		when( regionFactory.getTimeout() ).thenReturn( 60_000L );
+		final DomainDataRegion region = mock( DomainDataRegion.class );
+		when( region.getRegionFactory() ).thenReturn( regionFactory );
+
+		access = new EntityReadWriteAccess(
+				region,
+				DefaultCacheKeysFactory.INSTANCE,
+				new BlockingStorageAccess(),
+				mock( EntityDataCachingConfig.class )
+		);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testOtherKeysAreNotBlocked() throws Exception {
+		access.putFromLoad( session, OTHER_KEY, "other", null );
+
+		final Future<Boolean> put = executor.submit( () -> access.putFromLoad( session, BLOCKED_KEY, "blocked", null ) );
+		assertThat( blocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		// the write lock of the blocked key is held, operations on the other key must still proceed
+		final Future<Object> get = executor.submit( () -> access.get( session, OTHER_KEY ) );
+		assertThat( get.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "other" );
+
+		release.countDown();
+		assertThat( put.get( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( access.get( session, BLOCKED_KEY ) ).isEqualTo( "blocked" );
+	}
+
+	@Test
+	public void testSameKeyIsBlocked() throws Exception {
+		access.putFromLoad( session, OTHER_KEY, "other", null );
+
+		final Future<Boolean> put = executor.submit( () -> access.putFromLoad( session, BLOCKED_KEY, "blocked", null ) );
+		assertThat( blocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		// the read does not touch the blocked storage, it can only be waiting for the write lock of the key
+		final Future<Object> get = executor.submit( () -> access.get( session, BLOCKED_KEY ) );
+		assertThrows( TimeoutException.class, () -> get.get( 200, TimeUnit.MILLISECONDS ) );
+
+		// the other key belongs to another stripe
+		final Future<Object> otherGet = executor.submit( () -> access.get( session, OTHER_KEY ) );
+		assertThat( otherGet.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "other" );
+		assertThat( get.isDone() ).isFalse();
+
+		release.countDown();
+		assertThat( put.get( 10, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( get.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "blocked" );
+	}
+
+	@Test
+	public void testSoftLockIsKeptPerKey() {
+		release.countDown();
+		access.putFromLoad( session, BLOCKED_KEY, "blocked", null );
+		access.putFromLoad( session, OTHER_KEY, "other", null );
+
+		final SoftLock lock = access.lockItem( session, BLOCKED_KEY, null );
+		assertThat( access.get( session, BLOCKED_KEY ) ).isNull();
+		assertThat( access.putFromLoad( session, BLOCKED_KEY, "stale", null ) ).isFalse();
+		assertThat( access.get( session, OTHER_KEY ) ).isEqualTo( "other" );
+
+		access.unlockItem( session, BLOCKED_KEY, lock );
+		assertThat( access.get( session, BLOCKED_KEY ) ).isNull();
+		assertThat( access.get( session, OTHER_KEY ) ).isEqualTo( "other" );
+	}
+
+	/**
+	 * Blocks any write of {@link #BLOCKED_KEY}, which happens under the write lock of
+	 * its stripe, until the test releases it.
+	 */
+	private class BlockingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( BLOCKED_KEY.equals( key ) && release.getCount() > 0 ) {
+				blocked.countDown();
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.putIntoCache( key, value, session );
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jpa.boot;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.Bootstrap;
+
+import org.hibernate.testing.orm.jpa.PersistenceUnitDescriptorAdapter;
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@value EntityManagerFactoryBuilderImpl#JANDEX_INDEX}
+ */
+@BaseUnitTest
+public class JandexIndexSettingTest {
+
+	@Test
+	public void testIndexInstance() throws IOException {
+		// the index names the entity differently from its class file, so the entity
+		// name shows whether the annotations were read from the index
+		final Indexer indexer = new Indexer();
+		indexer.index( new ByteArrayInputStream( replaceEntityName( classFile( IndexedEntity.class ) ) ) );
+		final Index index = indexer.complete();
+
+		final Map settings = ServiceRegistryUtil.createBaseSettings();
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( EntityManagerFactoryBuilderImpl.JANDEX_INDEX, index );
+
+		final EntityManagerFactory emf = Bootstrap.getEntityManagerFactoryBuilder( persistenceUnit(), settings ).build();
+		try {
+			assertThat( emf.getMetamodel().entity( IndexedEntity.class ).getName() ).isEqualTo( INDEXED_NAME );
+		}
+		finally {
+			emf.close();
+		}
+	}
+
+	@Test
+	public void testMissingIndexResource() {
+		final Map settings = ServiceRegistryUtil.createBaseSettings();
+		settings.put( EntityManagerFactoryBuilderImpl.JANDEX_INDEX, "META-INF/does-not-exist.idx" );
+
+		assertThrows(
+				PersistenceException.class,
+				() -> Bootstrap.getEntityManagerFactoryBuilder( persistenceUnit(), settings )
+		);
+	}
+
+	private static byte[] classFile(Class<?> type) throws IOException {
+		final String resourceName = type.getName().replace( '.', '/' ) + ".class";
+		try ( InputStream stream = type.getClassLoader().getResourceAsStream( resourceName ) ) {
+			return stream.readAllBytes();
+		}
+	}
+
+	/**
+	 * Replaces the entity name in the constant pool of a class file.  Both names
+	 * have the same length, so the class file stays well-formed.
+	 */
+	private static byte[] replaceEntityName(byte[] classFile) {
+		final byte[] from = BYTECODE_NAME.getBytes( StandardCharsets.UTF_8 );
+		final byte[] to = INDEXED_NAME.getBytes( StandardCharsets.UTF_8 );
+		for ( int i = 0; i <= classFile.length - from.length; i++ ) {
+			int j = 0;
+			while ( j < from.length && classFile[i + j] == from[j] ) {
+				j++;
+			}
+			if ( j == from.length ) {
+				System.arraycopy( to, 0, classFile, i, to.length );
+				return classFile;
+			}
+		}
+		throw new AssertionError( "Entity name not found in the class file" );
+	}
+
+	private static PersistenceUnitDescriptorAdapter persistenceUnit() {
+		return new PersistenceUnitDescriptorAdapter() {
+			@Override
+			public List<String> getManagedClassNames() {
+				return Collections.singletonList( IndexedEntity.class.getName() );
+			}
+		};
+	}
+
+	private static final String BYTECODE_NAME = "FromClassFile";
+	private static final String INDEXED_NAME = "FromJandexIdx";
+
+	@Entity(name = BYTECODE_NAME)
+	public static class IndexedEntity {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a multi-load retrieves all the cached entities from the
+ * second-level cache in a single bulk operation.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = MultiLoadBulkSecondLevelCacheTest.CachedEntity.class,
+		sharedCacheMode = SharedCacheMode.ENABLE_SELECTIVE,
+		accessType = AccessType.READ_WRITE
+)
+@SessionFactory
+public class MultiLoadBulkSecondLevelCacheTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new CachedEntity( i, "entity " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( CachedEntity.class, 2 );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete CachedEntity" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final CacheGetCounter cacheGets = new CacheGetCounter();
+			session.addEventListeners( cacheGets );
+
+			final CachedEntity managed = session.get( CachedEntity.class, 1 );
+			cacheGets.count = 0;
+			statistics.clear();
+
+			final List<CachedEntity> entities = session.byMultipleIds( CachedEntity.class )
+					.with( CacheMode.NORMAL )
+					.enableSessionCheck( true )
+					.enableOrderedReturn( true )
+					.multiLoad( 1, 2, 3, 4, 5 );
+
+			assertThat( entities ).extracting( CachedEntity::getId ).containsExactly( 1, 2, 3, 4, 5 );
+			assertThat( entities.get( 0 ) ).isSameAs( managed );
+			assertThat( cacheGets.count ).isOne();
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isOne();
+		assertThat( statistics.getEntityLoadCount() ).isOne();
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final CacheGetCounter cacheGets = new CacheGetCounter();
+			session.addEventListeners( cacheGets );
+
+			final List<CachedEntity> entities = session.byMultipleIds( CachedEntity.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( 1, 2, 3, 4, 5 );
+
+			assertThat( entities ).extracting( CachedEntity::getId ).containsExactlyInAnyOrder( 1, 2, 3, 4, 5 );
+			assertThat( cacheGets.count ).isOne();
+		} );
+
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isOne();
+		assertThat( statistics.getEntityLoadCount() ).isOne();
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int count;
+
+		@Override
+		public void cacheGetStart() {
+			count++;
+		}
+	}
+
+	@Entity(name = "CachedEntity")
+	@Cacheable
+	public static class CachedEntity {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public CachedEntity() {
+		}
+
+		public CachedEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a multi-load by natural-id resolves the natural-ids from the
+ * session and, in bulk, from the second-level cache before hitting the database.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel(
+		annotatedClasses = MultiNaturalIdLoadCacheTest.Sku.class,
+		sharedCacheMode = SharedCacheMode.ENABLE_SELECTIVE,
+		accessType = AccessType.READ_WRITE
+)
+@SessionFactory
+public class MultiNaturalIdLoadCacheTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Sku( i, "sku-" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictNaturalIdData();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Sku" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testResolutionFromSecondLevelCache(SessionFactoryScope scope) {
+		// caches the resolutions of the natural-ids on the way back
+		scope.inSession( session -> assertThat(
+				session.byMultipleNaturalId( Sku.class )
+						.enableOrderedReturn( false )
+						.multiLoad( "sku-1", "sku-2", "sku-3", "sku-4" )
+		).hasSize( 4 ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final CacheGetCounter cacheGets = new CacheGetCounter();
+			session.addEventListeners( cacheGets );
+
+			final List<Sku> skus = session.byMultipleNaturalId( Sku.class )
+					.enableOrderedReturn( false )
+					.multiLoad( "sku-1", "sku-2", "sku-3", "sku-4", "sku-5" );
+
+			assertThat( skus ).extracting( Sku::getCode )
+					.containsExactlyInAnyOrder( "sku-1", "sku-2", "sku-3", "sku-4", "sku-5" );
+			// the natural-ids and the resolved entities are looked up in bulk,
+			// rather than one key at a time
+			assertThat( cacheGets.count ).isLessThan( 5 );
+		} );
+
+		assertThat( statistics.getNaturalIdCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getNaturalIdCacheMissCount() ).isOne();
+		assertThat( statistics.getEntityLoadCount() ).isOne();
+		assertThat( statistics.getPrepareStatementCount() ).isOne();
+	}
+
+	@Test
+	public void testResolutionFromSession(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inSession( session -> {
+			final Sku managed = session.bySimpleNaturalId( Sku.class ).load( "sku-1" );
+			statistics.clear();
+
+			final List<Sku> skus = session.byMultipleNaturalId( Sku.class )
+					.enableOrderedReturn( false )
+					.multiLoad( "sku-1", "sku-2" );
+
+			assertThat( skus ).extracting( Sku::getCode ).containsExactlyInAnyOrder( "sku-1", "sku-2" );
+			assertThat( skus ).contains( managed );
+		} );
+
+		assertThat( statistics.getNaturalIdCacheHitCount() ).isZero();
+		assertThat( statistics.getNaturalIdCacheMissCount() ).isOne();
+		assertThat( statistics.getEntityLoadCount() ).isOne();
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int count;
+
+		@Override
+		public void cacheGetStart() {
+			count++;
+		}
+	}
+
+	@Entity(name = "Sku")
+	@Cacheable
+	@NaturalIdCache
+	public static class Sku {
+
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		public Sku() {
+		}
+
+		public Sku(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.metamodel;
+
+import java.io.ByteArrayInputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.annotations.ValueGenerationType;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value PersistenceSettings#PARALLEL_PERSISTER_CREATION}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterCreationTest.Parent.class,
+		ParallelPersisterCreationTest.Child.class,
+		ParallelPersisterCreationTest.Animal.class,
+		ParallelPersisterCreationTest.Dog.class,
+		ParallelPersisterCreationTest.Cat.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PARALLEL_PERSISTER_CREATION, value = "true"))
+@SessionFactory
+public class ParallelPersisterCreationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersisters(SessionFactoryScope scope) {
+		final MappingMetamodel mappingMetamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( mappingMetamodel.getEntityDescriptor( Dog.class ).getSuperMappingType() )
+				.isSameAs( mappingMetamodel.getEntityDescriptor( Animal.class ) );
+		assertThat( mappingMetamodel.getCollectionDescriptor( Parent.class.getName() + ".children" ) )
+				.isNotNull();
+	}
+
+	@Test
+	public void testUsage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Parent parent = new Parent( 1 );
+			final Child child = new Child( 2, parent );
+			parent.children.add( child );
+			session.persist( parent );
+			session.persist( child );
+			session.persist( new Dog( 3 ) );
+			session.persist( new Cat( 4 ) );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Parent.class, 1 ).children ).hasSize( 1 );
+			assertThat( session.createSelectionQuery( "from Animal", Animal.class ).getResultList() ).hasSize( 2 );
+		} );
+	}
+
+	@Test
+	public void testManyPersistersOnContextClassLoader() throws Exception {
+		final int entityCount = 100;
+		final StringBuilder mapping = new StringBuilder( "<?xml version=\"1.0\"?>" )
+				.append( "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\"" )
+				.append( " \"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">" )
+				.append( "<hibernate-mapping>" );
+		for ( int i = 0; i < entityCount; i++ ) {
+			mapping.append( "<class entity-name=\"Dynamic" ).append( i ).append( "\">" )
+					.append( "<id name=\"id\" type=\"integer\"/>" )
+					.append( "<property name=\"name\" type=\"string\"/>" )
+					.append( "<set name=\"children\"><key column=\"parent_id\"/>" )
+					.append( "<one-to-many entity-name=\"Dynamic" ).append( ( i + 1 ) % entityCount ).append( "\"/>" )
+					.append( "</set></class>" );
+		}
+		mapping.append( "</hibernate-mapping>" );
+
+		CREATING_THREADS.clear();
+		CONTEXT_CLASS_LOADERS.clear();
+		final Thread currentThread = Thread.currentThread();
+		final ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+		try ( URLClassLoader contextClassLoader = new URLClassLoader( new URL[0], originalClassLoader ) ) {
+			currentThread.setContextClassLoader( contextClassLoader );
+			final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+					.applySetting( PersistenceSettings.PARALLEL_PERSISTER_CREATION, "true" )
+					.applySetting( PersistenceSettings.PARALLEL_PERSISTER_CREATION_THREADS, "4" )
+					.build();
+			try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+					.addInputStream( new ByteArrayInputStream( mapping.toString().getBytes( StandardCharsets.UTF_8 ) ) )
+					.addAnnotatedClass( Recorded.class )
+					.buildMetadata()
+					.buildSessionFactory() ) {
+				final MappingMetamodel mappingMetamodel = sessionFactory.getMappingMetamodel();
+				for ( int i = 0; i < entityCount; i++ ) {
+					assertThat( mappingMetamodel.getEntityDescriptor( "Dynamic" + i ) ).isNotNull();
+					assertThat( mappingMetamodel.getCollectionDescriptor( "Dynamic" + i + ".children" ) ).isNotNull();
+				}
+			}
+			finally {
+				StandardServiceRegistryBuilder.destroy( registry );
+			}
+
+			// the generator is created by the constructor of the persister of Recorded
+			assertThat( CREATING_THREADS ).isNotEmpty().doesNotContain( currentThread );
+			assertThat( CONTEXT_CLASS_LOADERS ).containsOnly( contextClassLoader );
+		}
+		finally {
+			currentThread.setContextClassLoader( originalClassLoader );
+		}
+	}
+
+	private static final Set<Thread> CREATING_THREADS = ConcurrentHashMap.newKeySet();
+	private static final Set<ClassLoader> CONTEXT_CLASS_LOADERS = ConcurrentHashMap.newKeySet();
+
+	@ValueGenerationType(generatedBy = ContextClassLoaderRecorder.class)
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface RecordContextClassLoader {
+	}
+
+	public static class ContextClassLoaderRecorder implements BeforeExecutionGenerator {
+		public ContextClassLoaderRecorder(RecordContextClassLoader annotation) {
+			CREATING_THREADS.add( Thread.currentThread() );
+			CONTEXT_CLASS_LOADERS.add( Thread.currentThread().getContextClassLoader() );
+		}
+
+		@Override
+		public EnumSet<EventType> getEventTypes() {
+			return EventTypeSets.INSERT_ONLY;
+		}
+
+		@Override
+		public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+			return "recorded";
+		}
+	}
+
+	@Entity(name = "Recorded")
+	public static class Recorded {
+		@Id
+		private Integer id;
+		@RecordContextClassLoader
+		private String recordedValue;
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Integer id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat extends Animal {
+		public Cat() {
+		}
+
+		public Cat(Integer id) {
+			super( id );
+		}
+	}
+}
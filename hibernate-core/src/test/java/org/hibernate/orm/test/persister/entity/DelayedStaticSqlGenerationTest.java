@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+import org.hibernate.testing.orm.junit.DialectContext;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#DELAY_STATIC_SQL_GENERATION}
+ */
+@DomainModel(annotatedClasses = {
+		DelayedStaticSqlGenerationTest.SimpleEntity.class,
+		DelayedStaticSqlGenerationTest.VersionedEntity.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DELAY_STATIC_SQL_GENERATION, value = "true"),
+		@Setting(name = AvailableSettings.DIALECT, value = "org.hibernate.orm.test.persister.entity.DelayedStaticSqlGenerationTest$RecordingDialect")
+})
+@SessionFactory
+public class DelayedStaticSqlGenerationTest {
+
+	@Test
+	public void testLifecycle(SessionFactoryScope scope) {
+		final List<String> translatedTables =
+				( (RecordingDialect) scope.getSessionFactory().getJdbcServices().getDialect() ).translatedTables;
+		final String simpleEntityTable = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( SimpleEntity.class )
+				.getIdentifierTableDetails()
+				.getTableName();
+
+		// nothing was generated while the session factory was built
+		assertThat( translatedTables ).doesNotContain( simpleEntityTable );
+
+		scope.inTransaction( session -> {
+			session.persist( new SimpleEntity( 1, "initial" ) );
+			session.persist( new VersionedEntity( 1, "initial" ) );
+			assertThat( translatedTables ).doesNotContain( simpleEntityTable );
+
+			// the static insert is generated when the insert is first executed
+			session.flush();
+			assertThat( translatedTables ).contains( simpleEntityTable );
+		} );
+
+		scope.inTransaction( session -> {
+			session.find( SimpleEntity.class, 1 ).name = "updated";
+			session.find( VersionedEntity.class, 1 ).name = "updated";
+		} );
+
+		scope.inTransaction( session -> {
+			final SimpleEntity simpleEntity = session.find( SimpleEntity.class, 1 );
+			final VersionedEntity versionedEntity = session.find( VersionedEntity.class, 1 );
+			assertThat( simpleEntity.name ).isEqualTo( "updated" );
+			assertThat( versionedEntity.name ).isEqualTo( "updated" );
+			assertThat( versionedEntity.version ).isEqualTo( 1 );
+			session.remove( simpleEntity );
+			session.remove( versionedEntity );
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( SimpleEntity.class, 1 ) ).isNull();
+			assertThat( session.find( VersionedEntity.class, 1 ) ).isNull();
+		} );
+	}
+
+	/**
+	 * Records the table of each model mutation translated to SQL
+	 */
+	public static class RecordingDialect extends DialectDelegateWrapper {
+		private final List<String> translatedTables = new CopyOnWriteArrayList<>();
+
+		public RecordingDialect() {
+			super( DialectContext.getDialect() );
+		}
+
+		@Override
+		public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
+			final SqlAstTranslatorFactory delegate = wrapped.getSqlAstTranslatorFactory() == null
+					? new StandardSqlAstTranslatorFactory()
+					: wrapped.getSqlAstTranslatorFactory();
+			return new SqlAstTranslatorFactory() {
+				@Override
+				public SqlAstTranslator<JdbcOperationQuerySelect> buildSelectTranslator(
+						SessionFactoryImplementor sessionFactory,
+						SelectStatement statement) {
+					return delegate.buildSelectTranslator( sessionFactory, statement );
+				}
+
+				@Override
+				public SqlAstTranslator<? extends JdbcOperationQueryMutation> buildMutationTranslator(
+						SessionFactoryImplementor sessionFactory,
+						MutationStatement statement) {
+					return delegate.buildMutationTranslator( sessionFactory, statement );
+				}
+
+				@Override
+				public <O extends JdbcMutationOperation> SqlAstTranslator<O> buildModelMutationTranslator(
+						TableMutation<O> mutation,
+						SessionFactoryImplementor sessionFactory) {
+					translatedTables.add( mutation.getTableName() );
+					return delegate.buildModelMutationTranslator( mutation, sessionFactory );
+				}
+			};
+		}
+	}
+
+	@Entity(name = "SimpleEntity")
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+		private String name;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "VersionedEntity")
+	public static class VersionedEntity {
+		@Id
+		private Integer id;
+		@Version
+		private Integer version;
+		private String name;
+
+		public VersionedEntity() {
+		}
+
+		public VersionedEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
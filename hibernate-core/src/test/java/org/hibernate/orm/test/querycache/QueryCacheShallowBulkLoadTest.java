@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the entities of a query cache hit with the shallow layout
+ * are loaded in bulk, rather than one at a time.
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+				@Setting( name = AvailableSettings.QUERY_CACHE_LAYOUT, value = "shallow" ),
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = QueryCacheShallowBulkLoadTest.Book.class )
+@SessionFactory
+public class QueryCacheShallowBulkLoadTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+		} );
+		// caches the query results
+		scope.inSession( QueryCacheShallowBulkLoadTest::findBooks );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntitiesResolvedFromSecondLevelCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( QueryCacheShallowBulkLoadTest::findBooks );
+
+		assertThat( statistics.getQueryCacheHitCount() ).isOne();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testEntitiesLoadedWithSingleQuery(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Book.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			// already managed entities are not loaded again
+			session.find( Book.class, 1 );
+			statistics.clear();
+
+			findBooks( session );
+		} );
+
+		assertThat( statistics.getQueryCacheHitCount() ).isOne();
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 9 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 9 );
+		assertThat( statistics.getPrepareStatementCount() ).isOne();
+	}
+
+	private static void findBooks(Session session) {
+		final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+				.setCacheable( true )
+				.getResultList();
+		assertThat( books ).extracting( Book::getId ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+		assertThat( books ).extracting( Book::getTitle ).allMatch( title -> title.startsWith( "Book " ) );
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		protected Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -13,6 +13,7 @@ import org.hibernate.boot.spi.AdditionalMappingContributor;
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.envers.internal.synchronization.AuditOutboxEntry;
 import org.hibernate.service.ServiceRegistry;
 
 import static org.hibernate.cfg.AvailableSettings.XML_MAPPING_ENABLED;
@@ -48,5 +49,9 @@ public class AdditionalMappingContributorImpl implements AdditionalMappingContri
 		}
 
 		enversService.initialize( metadata, contributions::contributeBinding, contributions.getEffectiveMappingDefaults() );
+
+		if ( enversService.getConfig().getAuditOutbox() != null ) {
+			contributions.contributeEntity( AuditOutboxEntry.class );
+		}
 	}
 }
@@ -23,6 +23,7 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.boot.internal.LegacyModifiedColumnNamingStrategy;
 import org.hibernate.envers.boot.spi.ModifiedColumnNamingStrategy;
 import org.hibernate.envers.configuration.internal.RevisionInfoConfiguration;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -72,6 +73,10 @@ public class Configuration {
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
 	private final boolean globalLegacyRelationTargetNotFound;
+	private final boolean directAuditRowInserts;
+	private final long auditOutboxDrainInterval;
+	private final int auditOutboxBatchSize;
+	private final int auditOutboxWorkers;
 
 	private final boolean trackEntitiesChanged;
 	private boolean trackEntitiesOverride;
@@ -95,6 +100,7 @@ public class Configuration {
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
 	private final RevisionInfoConfiguration revisionInfo;
+	private final AuditOutbox auditOutbox;
 
 	public Configuration(Properties properties, EnversService enversService, MetadataImplementor metadata) {
 		this.enversService = enversService;
@@ -131,6 +137,10 @@ public class Configuration {
 
 		findByRevisionExactMatch = configProps.getBoolean( EnversSettings.FIND_BY_REVISION_EXACT_MATCH, false );
 		globalLegacyRelationTargetNotFound = configProps.getBoolean( EnversSettings.GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG, true );
+		directAuditRowInserts = configProps.getBoolean( EnversSettings.DIRECT_AUDIT_ROW_INSERTS, false );
+		auditOutboxDrainInterval = configProps.getInt( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, 1000 );
+		auditOutboxBatchSize = configProps.getInt( EnversSettings.AUDIT_OUTBOX_BATCH_SIZE, 100 );
+		auditOutboxWorkers = configProps.getInt( EnversSettings.AUDIT_OUTBOX_WORKERS, 1 );
 
 		auditTablePrefix = configProps.getString( EnversSettings.AUDIT_TABLE_PREFIX, DEFAULT_PREFIX );
 		auditTableSuffix = configProps.getString( EnversSettings.AUDIT_TABLE_SUFFIX, DEFAULT_SUFFIX );
@@ -190,6 +200,20 @@ public class Configuration {
 						.getMetadataBuildingContext().getBootstrapContext()
 						.getReflectionManager();
 		this.revisionInfo = new RevisionInfoConfiguration( this, metadata, reflectionManager );
+
+		if ( configProps.getBoolean( EnversSettings.AUDIT_OUTBOX, false ) ) {
+			if ( !( auditStrategy instanceof org.hibernate.envers.strategy.internal.DefaultAuditStrategy ) ) {
+				// the audit rows of other strategies depend on the rows of previous revisions
+				throw new EnversMappingException(
+						"The audit outbox is only supported with the default audit strategy, not with "
+								+ auditStrategy.getClass().getName()
+				);
+			}
+			this.auditOutbox = new AuditOutbox( this );
+		}
+		else {
+			this.auditOutbox = null;
+		}
 	}
 
 	public boolean isGenerateRevisionsForCollections() {
@@ -240,6 +264,22 @@ public class Configuration {
 		return globalLegacyRelationTargetNotFound;
 	}
 
+	public boolean isDirectAuditRowInserts() {
+		return directAuditRowInserts;
+	}
+
+	public long getAuditOutboxDrainInterval() {
+		return auditOutboxDrainInterval;
+	}
+
+	public int getAuditOutboxBatchSize() {
+		return auditOutboxBatchSize;
+	}
+
+	public int getAuditOutboxWorkers() {
+		return auditOutboxWorkers;
+	}
+
 	public boolean isRevisionEndTimestampEnabled() {
 		return revisionEndTimestampEnabled;
 	}
@@ -366,6 +406,13 @@ public class Configuration {
 		return revisionInfo;
 	}
 
+	/**
+	 * @return the audit outbox, or {@code null} if {@link EnversSettings#AUDIT_OUTBOX} is not enabled
+	 */
+	public AuditOutbox getAuditOutbox() {
+		return auditOutbox;
+	}
+
 	/**
 	 * Returns a reference to the {@link EnversService}.
 	 * This method is not recommended and discouraged, will be removed in a future release.
@@ -439,6 +486,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -186,6 +186,53 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether audit rows should be inserted directly through the audit entity persisters rather than
+	 * saved as managed entities in the session. This avoids the persistence context, flush and eviction
+	 * overhead per audit row and lets consecutive rows of the same audit table share a JDBC batch.
+	 * Audit rows written this way are not seen by session interceptors or event listeners.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String DIRECT_AUDIT_ROW_INSERTS = "org.hibernate.envers.direct_audit_row_inserts";
+
+	/**
+	 * Whether the audit rows of a transaction should be written to an outbox table, as a single
+	 * row, rather than to the audit tables. The revision entity is still saved in the transaction,
+	 * and background workers later expand the outbox rows into the audit tables, in batches.
+	 * Until then, the audit rows of committed transactions are not visible to audit queries.
+	 *
+	 * Only supported with the default audit strategy. Defaults to {@literal false}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_OUTBOX = "org.hibernate.envers.audit_outbox";
+
+	/**
+	 * The delay, in milliseconds, between two drains of the audit outbox by a worker.
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_OUTBOX_DRAIN_INTERVAL = "org.hibernate.envers.audit_outbox_drain_interval";
+
+	/**
+	 * The maximum number of outbox rows expanded into the audit tables per transaction of a worker.
+	 * Defaults to {@literal 100}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_OUTBOX_BATCH_SIZE = "org.hibernate.envers.audit_outbox_batch_size";
+
+	/**
+	 * The number of workers draining the audit outbox. Defaults to {@literal 1}.
+	 *
+	 * @since 7.0
+	 */
+	String AUDIT_OUTBOX_WORKERS = "org.hibernate.envers.audit_outbox_workers";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
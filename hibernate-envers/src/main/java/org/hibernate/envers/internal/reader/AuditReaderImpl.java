@@ -269,6 +269,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkPositive( revision, "Entity revision" );
 		checkSession();
 
+		final Object cachedRevisionData = firstLevelCache.getRevision( revision );
+		if ( revisionEntityClass.isInstance( cachedRevisionData ) ) {
+			return (T) cachedRevisionData;
+		}
+
 		final Set<Number> revisions = new HashSet<>( 1 );
 		revisions.add( revision );
 		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionsQuery( session, revisions );
@@ -280,6 +285,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 				throw new RevisionDoesNotExistException( revision );
 			}
 
+			firstLevelCache.putRevision( revision, revisionData );
 			return revisionData;
 		}
 		catch (NonUniqueResultException e) {
@@ -301,12 +307,29 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		}
 		checkSession();
 
-		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionsQuery( session, revisions );
+		// Only query the revisions which were not loaded by this reader before
+		final Set<Number> revisionsToLoad = new HashSet<>( revisions.size() );
+		for ( Number revision : revisions ) {
+			final Object cachedRevisionData = firstLevelCache.getRevision( revision );
+			if ( revisionEntityClass.isInstance( cachedRevisionData ) ) {
+				final Number revNo = enversService.getRevisionInfoNumberReader().getRevisionNumber( cachedRevisionData );
+				result.put( revNo, (T) cachedRevisionData );
+			}
+			else {
+				revisionsToLoad.add( revision );
+			}
+		}
+		if ( revisionsToLoad.isEmpty() ) {
+			return result;
+		}
+
+		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionsQuery( session, revisionsToLoad );
 
 		try {
 			final List<?> revisionList = query.getResultList();
 			for ( Object revision : revisionList ) {
 				final Number revNo = enversService.getRevisionInfoNumberReader().getRevisionNumber( revision );
+				firstLevelCache.putRevision( revNo, revision );
 				result.put( revNo, (T) revision );
 			}
 
@@ -39,9 +39,16 @@ public class FirstLevelCache {
 	 */
 	private final Map<Triple<Object, Number, Object>, String> entityNameCache;
 
+	/**
+	 * cache for resolve a revision entity for a given revision number, keyed by the long value
+	 * of the number as callers may use a different {@link Number} type than the revision entity.
+	 */
+	private final Map<Long, Object> revisionCache;
+
 	public FirstLevelCache() {
 		cache = newHashMap();
 		entityNameCache = newHashMap();
+		revisionCache = newHashMap();
 	}
 
 	public Object get(String entityName, Number revision, Object id) {
@@ -116,4 +123,14 @@ public class FirstLevelCache {
 	public boolean containsEntityName(Object id, Number revision, Object entity) {
 		return entityNameCache.containsKey( make( id, revision, entity ) );
 	}
+
+	public Object getRevision(Number revision) {
+		LOG.debugf( "Resolving revision entity from First Level Cache: revision:%s", revision );
+		return revisionCache.get( revision.longValue() );
+	}
+
+	public void putRevision(Number revision, Object revisionEntity) {
+		LOG.debugf( "Caching revision entity on First Level Cache: revision:%s", revision );
+		revisionCache.put( revision.longValue(), revisionEntity );
+	}
 }
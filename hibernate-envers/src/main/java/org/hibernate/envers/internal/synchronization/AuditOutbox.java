@@ -0,0 +1,218 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.SerializationException;
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit rows of a transaction as a single {@link AuditOutboxEntry} when
+ * {@link org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX} is enabled, and
+ * later expands the entries into the audit tables, outside of the transactions which
+ * produced them.
+ * <p>
+ * The audit rows are captured while the work units of a transaction are performed, and
+ * serialized with a reference to the revision entity of the transaction. If one of their
+ * values is not serializable, or is an entity, the audit rows of the transaction are
+ * written to the audit tables right away instead.
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	private final Configuration configuration;
+	private final AuditRowWriter auditRowWriter;
+	private final Map<Session, List<CapturedRow>> capturedRows;
+
+	public AuditOutbox(Configuration configuration) {
+		this.configuration = configuration;
+		auditRowWriter = new AuditRowWriter();
+		capturedRows = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Starts capturing the audit rows written in the given session.
+	 *
+	 * @param session Active Hibernate session.
+	 */
+	public void startCapture(Session session) {
+		capturedRows.put( session, new ArrayList<>() );
+	}
+
+	/**
+	 * Captures an audit row if its session is capturing them.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 *
+	 * @return whether the audit row was captured, and must not be written
+	 */
+	public boolean capture(Session session, String auditEntityName, Object data) {
+		final List<CapturedRow> rows = capturedRows.get( session );
+		if ( rows == null ) {
+			return false;
+		}
+		rows.add( new CapturedRow( auditEntityName, data ) );
+		return true;
+	}
+
+	/**
+	 * Stops capturing the audit rows written in the given session, and saves the captured
+	 * rows as an outbox entry.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param revisionData The revision entity the captured rows belong to.
+	 */
+	public void finishCapture(Session session, Object revisionData) {
+		final List<CapturedRow> rows = capturedRows.remove( session );
+		if ( rows == null || rows.isEmpty() ) {
+			return;
+		}
+
+		final byte[] payload;
+		try {
+			payload = serialize( session, rows, revisionData );
+		}
+		catch (SerializationException e) {
+			log.debugf( "Writing the audit rows of the transaction directly: %s", e.getMessage() );
+			for ( CapturedRow row : rows ) {
+				auditRowWriter.write( session, configuration, row.auditEntityName, row.data );
+			}
+			return;
+		}
+		session.persist( new AuditOutboxEntry( payload ) );
+	}
+
+	/**
+	 * Stops capturing the audit rows written in the given session, discarding them.
+	 *
+	 * @param session Active Hibernate session.
+	 */
+	public void cancelCapture(Session session) {
+		capturedRows.remove( session );
+	}
+
+	/**
+	 * Expands the oldest outbox entries into the audit tables and deletes them, in a new
+	 * transaction. The entries locked by concurrent drains are skipped.
+	 *
+	 * @param sessionFactory The session factory.
+	 *
+	 * @return the number of expanded outbox entries
+	 */
+	public int drain(SessionFactory sessionFactory) {
+		return sessionFactory.fromTransaction( this::drain );
+	}
+
+	private int drain(Session session) {
+		final List<AuditOutboxEntry> entries = session.createSelectionQuery(
+						"from " + AuditOutboxEntry.ENTITY_NAME + " order by id",
+						AuditOutboxEntry.class
+				)
+				.setHibernateLockMode( LockMode.UPGRADE_SKIPLOCKED )
+				.setMaxResults( configuration.getAuditOutboxBatchSize() )
+				.getResultList();
+		final String revisionInfoEntityName = configuration.getRevisionInfo().getRevisionInfoEntityName();
+		for ( AuditOutboxEntry entry : entries ) {
+			final Payload payload = (Payload) SerializationHelper.deserialize( entry.getPayload() );
+			final Object revision = session.getReference( revisionInfoEntityName, payload.revisionId );
+			for ( int i = 0; i < payload.auditEntityNames.size(); i++ ) {
+				auditRowWriter.write(
+						session,
+						configuration,
+						payload.auditEntityNames.get( i ),
+						internalize( payload.rows.get( i ), revision )
+				);
+			}
+			session.remove( entry );
+		}
+		return entries.size();
+	}
+
+	private static byte[] serialize(Session session, List<CapturedRow> rows, Object revisionData) {
+		final MappingMetamodel mappingMetamodel = ( (SessionImplementor) session ).getFactory().getMappingMetamodel();
+		final Payload payload = new Payload( session.getIdentifier( revisionData ), rows.size() );
+		for ( CapturedRow row : rows ) {
+			payload.auditEntityNames.add( row.auditEntityName );
+			payload.rows.add( externalize( row.data, revisionData, mappingMetamodel ) );
+		}
+		return SerializationHelper.serialize( payload );
+	}
+
+	private static Object externalize(Object value, Object revisionData, MappingMetamodel mappingMetamodel) {
+		if ( value == revisionData ) {
+			return RevisionMarker.INSTANCE;
+		}
+		else if ( value instanceof Map ) {
+			final HashMap<Object, Object> copy = new HashMap<>();
+			for ( Map.Entry<?, ?> entry : ( (Map<?, ?>) value ).entrySet() ) {
+				copy.put( entry.getKey(), externalize( entry.getValue(), revisionData, mappingMetamodel ) );
+			}
+			return copy;
+		}
+		else if ( value instanceof HibernateProxy
+				|| value != null && mappingMetamodel.isEntityClass( value.getClass() ) ) {
+			throw new SerializationException( "Audit row references an entity: " + value.getClass().getName(), null );
+		}
+		return value;
+	}
+
+	private static Object internalize(Object value, Object revision) {
+		if ( value == RevisionMarker.INSTANCE ) {
+			return revision;
+		}
+		else if ( value instanceof Map ) {
+			final HashMap<Object, Object> copy = new HashMap<>();
+			for ( Map.Entry<?, ?> entry : ( (Map<?, ?>) value ).entrySet() ) {
+				copy.put( entry.getKey(), internalize( entry.getValue(), revision ) );
+			}
+			return copy;
+		}
+		return value;
+	}
+
+	private static class CapturedRow {
+		private final String auditEntityName;
+		private final Object data;
+
+		private CapturedRow(String auditEntityName, Object data) {
+			this.auditEntityName = auditEntityName;
+			this.data = data;
+		}
+	}
+
+	private static class Payload implements Serializable {
+		private final Object revisionId;
+		private final ArrayList<String> auditEntityNames;
+		private final ArrayList<Object> rows;
+
+		private Payload(Object revisionId, int size) {
+			this.revisionId = revisionId;
+			auditEntityNames = new ArrayList<>( size );
+			rows = new ArrayList<>( size );
+		}
+	}
+
+	private enum RevisionMarker {
+		INSTANCE
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.envers.configuration.Configuration;
+import org.jboss.logging.Logger;
+
+/**
+ * Periodically drains the {@link AuditOutbox} while the session factory is open, using
+ * {@link org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX_WORKERS} daemon
+ * threads, and drains it completely when the session factory is closed.
+ */
+public class AuditOutboxDrainer implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( AuditOutboxDrainer.class );
+
+	private final Configuration configuration;
+	private ScheduledExecutorService executor;
+
+	public AuditOutboxDrainer(Configuration configuration) {
+		this.configuration = configuration;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final int workers = configuration.getAuditOutboxWorkers();
+		final long interval = configuration.getAuditOutboxDrainInterval();
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = Executors.newScheduledThreadPool(
+				workers,
+				runnable -> {
+					final Thread thread = new Thread( runnable, "envers-audit-outbox-" + threadNumber.incrementAndGet() );
+					thread.setDaemon( true );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				}
+		);
+		for ( int i = 0; i < workers; i++ ) {
+			executor.scheduleWithFixedDelay( () -> drainAll( factory ), interval, interval, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( executor == null ) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			if ( !executor.awaitTermination( configuration.getAuditOutboxDrainInterval(), TimeUnit.MILLISECONDS ) ) {
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		// the session factory is still open, expand what is left in the outbox
+		drainAll( factory );
+	}
+
+	private void drainAll(SessionFactory factory) {
+		final AuditOutbox auditOutbox = configuration.getAuditOutbox();
+		final int batchSize = configuration.getAuditOutboxBatchSize();
+		try {
+			int drained;
+			do {
+				drained = auditOutbox.drain( factory );
+			}
+			while ( drained >= batchSize );
+		}
+		catch (RuntimeException e) {
+			log.warn( "Unable to drain the Envers audit outbox", e );
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * The audit rows of a transaction, serialized by the {@link AuditOutbox} until they are
+ * expanded into the audit tables.
+ */
+@Entity(name = AuditOutboxEntry.ENTITY_NAME)
+@Table(name = "REVINFO_OUTBOX")
+public class AuditOutboxEntry {
+	public static final String ENTITY_NAME = "EnversAuditOutboxEntry";
+
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	@Lob
+	@Column(nullable = false)
+	private byte[] payload;
+
+	protected AuditOutboxEntry() {
+	}
+
+	public AuditOutboxEntry(byte[] payload) {
+		this.payload = payload;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public byte[] getPayload() {
+		return payload;
+	}
+}
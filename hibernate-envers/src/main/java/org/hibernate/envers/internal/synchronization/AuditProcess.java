@@ -30,6 +30,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditOutbox auditOutbox;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -40,7 +41,15 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, null, session );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AuditOutbox auditOutbox,
+			SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditOutbox = auditOutbox;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
@@ -121,6 +130,27 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( auditOutbox == null ) {
+			performWorkUnits( session, currentRevisionData );
+		}
+		else {
+			// The audit rows of the transaction are saved as a single outbox entry
+			auditOutbox.startCapture( session );
+			try {
+				performWorkUnits( session, currentRevisionData );
+				auditOutbox.finishCapture( session, currentRevisionData );
+			}
+			finally {
+				auditOutbox.cancelCapture( session );
+			}
+		}
+
+		// Audit rows inserted directly may still be pending in a JDBC batch.
+		( (SessionImplementor) session ).getJdbcCoordinator().executeBatch();
+	}
+
+	private void performWorkUnits(Session session, Object currentRevisionData) {
+		AuditWorkUnit vwu;
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.Generator;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.generator.EventType.INSERT;
+
+/**
+ * Writes audit rows, either by saving them as entities in the session or, when
+ * {@link org.hibernate.envers.configuration.EnversSettings#DIRECT_AUDIT_ROW_INSERTS}
+ * is enabled, by inserting them directly through the audit entity persister.
+ * <p>
+ * Directly inserted audit rows never become part of the persistence context, so they
+ * do not need to be dirty-checked on flush nor evicted after transaction completion.
+ * The inserts use the JDBC batch of the session, hence consecutive rows of the same
+ * audit table are grouped into a single batch when JDBC batching is enabled.
+ * <p>
+ * When {@link org.hibernate.envers.configuration.EnversSettings#AUDIT_OUTBOX} is enabled,
+ * the audit rows of a transaction are handed to the {@link AuditOutbox} instead.
+ */
+public class AuditRowWriter {
+	private final SessionCacheCleaner sessionCacheCleaner;
+
+	public AuditRowWriter() {
+		sessionCacheCleaner = new SessionCacheCleaner();
+	}
+
+	/**
+	 * Writes an audit row.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param configuration The Envers configuration.
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 */
+	public void write(Session session, Configuration configuration, String auditEntityName, Object data) {
+		final AuditOutbox auditOutbox = configuration.getAuditOutbox();
+		if ( auditOutbox != null && auditOutbox.capture( session, auditEntityName, data ) ) {
+			return;
+		}
+		if ( !configuration.isDirectAuditRowInserts() || !insert( (SessionImplementor) session, auditEntityName, data ) ) {
+			session.save( auditEntityName, data );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		}
+	}
+
+	private boolean insert(SessionImplementor session, String auditEntityName, Object data) {
+		final EntityPersister persister = session.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( auditEntityName );
+		final Generator generator = persister.getGenerator();
+		if ( generator.generatedOnExecution( data, session ) ) {
+			// the identifier is only known after the insert, let the session handle it
+			return false;
+		}
+
+		if ( session.getActionQueue().areInsertionsOrDeletionsQueued() ) {
+			// audit rows reference the revision entity, which has to be written first
+			session.flush();
+		}
+
+		final Object id = ( (BeforeExecutionGenerator) generator ).generate( session, data, null, INSERT );
+		final Object[] state = persister.getValues( data );
+		persister.getInsertCoordinator().insert( data, id, state, session );
+		return true;
+	}
+}
@@ -243,6 +243,9 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 			return entity;
 		}
 
+		// Make the loaded revision entity available to subsequent AuditReader#findRevision calls
+		versionsReader.getFirstLevelCache().putRevision( revision, revisionData );
+
 		final String revisionTypePropertyName = enversService.getConfig().getRevisionTypePropertyName();
 		Object revisionType = versionsData.get( revisionTypePropertyName );
 		if ( !includePropertyChanges ) {
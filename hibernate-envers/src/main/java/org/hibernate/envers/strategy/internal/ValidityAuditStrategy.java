@@ -8,12 +8,15 @@ package org.hibernate.envers.strategy.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
@@ -33,19 +36,24 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditRowWriter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.envers.tools.Pair;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.sql.ComparisonRestriction;
 import org.hibernate.sql.Update;
 import org.hibernate.type.BasicType;
@@ -87,9 +95,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	private Getter revisionTimestampGetter;
 
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditRowWriter auditRowWriter;
+
+	/**
+	 * revision-end updates queued per session, executed before transaction completion
+	 */
+	private final Map<EventSource, List<RevisionEndUpdate>> revisionEndUpdates;
 
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditRowWriter = new AuditRowWriter();
+		revisionEndUpdates = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -163,7 +179,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		auditRowWriter.write( session, configuration, auditedEntityName, data );
 
 		// Update the end date of the previous row.
 		//
@@ -174,49 +190,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
 		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+			// Queue the UPDATE statement, the queued updates are executed as JDBC batches grouped by
+			// audit table after the audit rows have been inserted.
+			getRevisionEndUpdates( (EventSource) session ).add(
+					new RevisionEndUpdate( entityName, auditedEntityName, configuration, id, data, revision )
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -271,8 +250,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditRowWriter.write(
+				session,
+				configuration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData()
+		);
 	}
 
 	/**
@@ -460,26 +443,115 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	}
 
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Get the queue of revision-end updates for the specified session, registering a transaction
+	 * completion process which executes them if the queue does not yet exist.
+	 *
+	 * @param session the session
+	 * @return the queue of revision-end updates, never {@code null}
+	 */
+	private List<RevisionEndUpdate> getRevisionEndUpdates(EventSource session) {
+		List<RevisionEndUpdate> updates = revisionEndUpdates.get( session );
+		if ( updates == null ) {
+			// No worries about registering a session twice - a session is single thread
+			final List<RevisionEndUpdate> sessionUpdates = new ArrayList<>();
+			revisionEndUpdates.put( session, sessionUpdates );
+
+			// Register transaction completion process to guarantee execution of UPDATE statements after INSERT.
+			session.getActionQueue().registerProcess( sessionImplementor -> {
+				revisionEndUpdates.remove( session, sessionUpdates );
+				executeRevisionEndUpdates( sessionImplementor, sessionUpdates );
+			} );
+			session.getActionQueue().registerProcess(
+					(success, sessionImplementor) -> revisionEndUpdates.remove( session, sessionUpdates )
+			);
+
+			updates = sessionUpdates;
+		}
+		return updates;
+	}
+
+	/**
+	 * Executes the queued revision-end updates within the scope of the specified session.
+	 * <p>
+	 * Updates rendering the same SQL, i.e. targeting the same audit table, are grouped
+	 * and executed as JDBC batches of the configured {@linkplain
+	 * SharedSessionContractImplementor#getConfiguredJdbcBatchSize() batch size}.
+	 *
+	 * @param session the session
+	 * @param updates the queued updates
+	 */
+	private void executeRevisionEndUpdates(SessionImplementor session, List<RevisionEndUpdate> updates) {
+		final Map<String, List<Pair<RevisionEndUpdate, UpdateContext>>> updatesBySql = new LinkedHashMap<>();
+		for ( RevisionEndUpdate update : updates ) {
+			// Construct the update contexts
+			final List<UpdateContext> contexts = getUpdateContexts(
+					update.entityName,
+					update.auditedEntityName,
+					session,
+					update.configuration,
+					update.id,
+					update.revision
+			);
+
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and id %s",
+								update.auditedEntityName,
+								update.id
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				updatesBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+						.add( Pair.make( update, context ) );
+			}
+		}
+
+		for ( Map.Entry<String, List<Pair<RevisionEndUpdate, UpdateContext>>> entry : updatesBySql.entrySet() ) {
+			executeUpdates( session, entry.getKey(), entry.getValue() );
+		}
+	}
+
+	/**
+	 * Executes updates sharing the same SQL within the scope of the specified session.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param sql the SQL of the update statement
+	 * @param updates the updates and their contexts to be executed
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
+	private void executeUpdates(
+			SessionImplementor session,
+			String sql,
+			List<Pair<RevisionEndUpdate, UpdateContext>> updates) {
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final int batchSize = Math.max( session.getConfiguredJdbcBatchSize(), 1 );
 
 		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
+		session.doWork(
 				connection -> {
 					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
+						for ( int start = 0; start < updates.size(); start += batchSize ) {
+							final int end = Math.min( start + batchSize, updates.size() );
+							if ( end - start == 1 ) {
+								final Pair<RevisionEndUpdate, UpdateContext> update = updates.get( start );
+								bind( session, statement, update.getSecond() );
+								final int rows = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+								checkUpdatedRows( update.getFirst(), rows );
+							}
+							else {
+								for ( int i = start; i < end; i++ ) {
+									bind( session, statement, updates.get( i ).getSecond() );
+									statement.addBatch();
+								}
+								final int[] rowCounts = executeBatch( session, statement, sql );
+								for ( int i = start; i < end; i++ ) {
+									checkUpdatedRows( updates.get( i ).getFirst(), rowCounts[i - start] );
+								}
+							}
 						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
-						return result;
 					}
 					finally {
 						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
@@ -489,6 +561,46 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	private void bind(SessionImplementor session, PreparedStatement statement, UpdateContext context)
+			throws SQLException {
+		int index = 1;
+		for ( QueryParameterBinding binding : context.getBindings() ) {
+			index += binding.bind( index, statement, session );
+		}
+	}
+
+	private int[] executeBatch(SessionImplementor session, PreparedStatement statement, String sql)
+			throws SQLException {
+		final JdbcObserver observer = session.getJdbcSessionContext().getObserver();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+		try {
+			observer.jdbcExecuteBatchStart();
+			return statement.executeBatch();
+		}
+		finally {
+			eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+			observer.jdbcExecuteBatchEnd();
+		}
+	}
+
+	private void checkUpdatedRows(RevisionEndUpdate update, int rows) {
+		if ( rows != 1 && rows != Statement.SUCCESS_NO_INFO ) {
+			final RevisionType revisionType = getRevisionType( update.configuration, update.data );
+			if ( !update.configuration.isAllowIdentifierReuse() || revisionType != RevisionType.ADD ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+								update.auditedEntityName,
+								update.id,
+								rows
+						)
+				);
+			}
+		}
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -659,6 +771,33 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * A queued update of the revision-end columns of the previous audit row of an entity.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object data;
+		private final Object revision;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object data,
+				Object revision) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.data = data;
+			this.revision = revision;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
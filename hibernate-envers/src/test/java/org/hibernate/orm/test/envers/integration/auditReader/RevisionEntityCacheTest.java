@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.auditReader;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import jakarta.persistence.EntityManager;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that revision entities are only loaded once per {@link AuditReader}.
+ */
+public class RevisionEntityCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		id = doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			entityManager.persist( entity );
+			return entity.getId();
+		} );
+
+		// Revision 2
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, id ).setStr( "y" );
+		} );
+	}
+
+	@Test
+	public void testFindRevision() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactory.class ).getStatistics();
+		final EntityManager entityManager = createIsolatedEntityManager();
+		try {
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			final Object revision = auditReader.findRevision( Object.class, 1 );
+
+			statistics.clear();
+			assertSame( revision, auditReader.findRevision( Object.class, 1 ) );
+			assertSame( revision, auditReader.findRevision( Object.class, 1L ) );
+			assertEquals( 0, statistics.getQueryExecutionCount() );
+
+			// only revision 2 still needs to be loaded
+			final Map<Number, Object> revisions = auditReader.findRevisions(
+					Object.class,
+					new HashSet<>( Arrays.asList( 1, 2 ) )
+			);
+			assertEquals( 2, revisions.size() );
+			assertEquals( 1, statistics.getQueryExecutionCount() );
+
+			assertSame( revisions.get( 2 ), auditReader.findRevision( Object.class, 2 ) );
+			assertEquals( 1, statistics.getQueryExecutionCount() );
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+	@Test
+	public void testCachedRevisionOfAnotherClass() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactory.class ).getStatistics();
+		final EntityManager entityManager = createIsolatedEntityManager();
+		try {
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			auditReader.findRevision( Object.class, 1 );
+
+			// the cached revision entity is not a StrTestEntity, so it is queried
+			statistics.clear();
+			auditReader.findRevisions( StrTestEntity.class, new HashSet<>( Arrays.asList( 1 ) ) );
+			assertEquals( 1, statistics.getQueryExecutionCount() );
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testRevisionsOfEntity() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactory.class ).getStatistics();
+		final EntityManager entityManager = createIsolatedEntityManager();
+		try {
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			final List<Object[]> results = auditReader.createQuery()
+					.forRevisionsOfEntity( StrTestEntity.class, false, true )
+					.getResultList();
+			assertEquals( 2, results.size() );
+
+			statistics.clear();
+			assertSame( results.get( 0 )[1], auditReader.findRevision( Object.class, 1 ) );
+			assertSame( results.get( 1 )[1], auditReader.findRevision( Object.class, 2 ) );
+			assertEquals( 0, statistics.getQueryExecutionCount() );
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+}
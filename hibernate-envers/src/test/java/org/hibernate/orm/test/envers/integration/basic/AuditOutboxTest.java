@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutboxEntry;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@value EnversSettings#AUDIT_OUTBOX}
+ */
+public class AuditOutboxTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_OUTBOX, "true" );
+		// the test drains the outbox itself
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, "3600000" );
+	}
+
+	@Test
+	public void testAuditRowsAreWrittenWhenTheOutboxIsDrained() {
+		// Revision 1
+		final Integer[] ids = doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			final StringSetEntity setEntity = new StringSetEntity();
+			setEntity.setStrings( new HashSet<>( Arrays.asList( "a", "b" ) ) );
+			entityManager.persist( entity );
+			entityManager.persist( setEntity );
+			return new Integer[] { entity.getId(), setEntity.getId() };
+		} );
+
+		// Revision 2
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, ids[0] ).setStr( "x2" );
+			entityManager.find( StringSetEntity.class, ids[1] ).getStrings().remove( "a" );
+		} );
+
+		// Revision 3
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( StrTestEntity.class, ids[0] ) );
+		} );
+
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StrTestEntity.class, ids[0] ) );
+		assertEquals( 3L, countOutboxEntries() );
+
+		final SessionFactory sessionFactory = entityManagerFactory().unwrap( SessionFactory.class );
+		assertEquals( 3, getConfiguration().getAuditOutbox().drain( sessionFactory ) );
+		assertEquals( 0L, countOutboxEntries() );
+
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids[0] ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, ids[1] ) );
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, ids[0], 1 ).getStr() );
+		assertEquals( "x2", getAuditReader().find( StrTestEntity.class, ids[0], 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, ids[0], 3 ) );
+		assertEquals(
+				new HashSet<>( Arrays.asList( "b" ) ),
+				getAuditReader().find( StringSetEntity.class, ids[1], 2 ).getStrings()
+		);
+	}
+
+	private long countOutboxEntries() {
+		return doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery(
+					"select count(*) from " + AuditOutboxEntry.ENTITY_NAME,
+					Long.class
+			).getSingleResult();
+		} );
+	}
+}
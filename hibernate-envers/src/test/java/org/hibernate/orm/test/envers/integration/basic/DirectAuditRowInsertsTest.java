@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@value EnversSettings#DIRECT_AUDIT_ROW_INSERTS}
+ */
+public class DirectAuditRowInsertsTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.DIRECT_AUDIT_ROW_INSERTS, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final StrTestEntity entity1 = new StrTestEntity( "x" );
+			final StrTestEntity entity2 = new StrTestEntity( "y" );
+			final StringSetEntity setEntity = new StringSetEntity();
+			setEntity.setStrings( new HashSet<>( Arrays.asList( "a", "b" ) ) );
+			entityManager.persist( entity1 );
+			entityManager.persist( entity2 );
+			entityManager.persist( setEntity );
+			id1 = entity1.getId();
+			id2 = entity2.getId();
+			setId = setEntity.getId();
+		} );
+
+		// Revision 2
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( StrTestEntity.class, id1 ).setStr( "x2" );
+			entityManager.find( StringSetEntity.class, setId ).getStrings().remove( "a" );
+		} );
+
+		// Revision 3
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( StrTestEntity.class, id2 ) );
+		} );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id1, 1 ).getStr() );
+		assertEquals( "x2", getAuditReader().find( StrTestEntity.class, id1, 2 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id2, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, id2, 3 ) );
+
+		assertEquals(
+				new HashSet<>( Arrays.asList( "a", "b" ) ),
+				getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings()
+		);
+		assertEquals(
+				new HashSet<>( Arrays.asList( "b" ) ),
+				getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings()
+		);
+	}
+
+	@Test
+	public void testRevisionEndsForValidityAuditStrategy() {
+		if ( ValidityAuditStrategy.class.getName().equals( getAuditStrategy() ) ) {
+			assertEquals(
+					Arrays.asList( 2, null ),
+					revisionEnds( "select REVEND from STR_TEST_AUD where id = :id order by REV", id1 )
+			);
+			assertEquals(
+					Arrays.asList( 3, null ),
+					revisionEnds( "select REVEND from STR_TEST_AUD where id = :id order by REV", id2 )
+			);
+			assertEquals(
+					Arrays.asList( 2, null, null ),
+					revisionEnds(
+							"select REVEND from StringSetEntity_strings_AUD where StringSetEntity_id = :id order by REV, strings",
+							setId
+					)
+			);
+		}
+	}
+
+	private List<Integer> revisionEnds(String sql, Integer id) {
+		return doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<?> results = entityManager.createNativeQuery( sql )
+					.setParameter( "id", id )
+					.getResultList();
+			return results.stream()
+					.map( revisionEnd -> revisionEnd == null ? null : ( (Number) revisionEnd ).intValue() )
+					.collect( Collectors.toList() );
+		} );
+	}
+}
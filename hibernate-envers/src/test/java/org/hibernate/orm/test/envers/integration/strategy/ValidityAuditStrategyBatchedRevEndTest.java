@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the revision-end updates of the {@link ValidityAuditStrategy}, which are executed
+ * as JDBC batches, close exactly the previous audit row of each modified entity.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	// not a multiple of the batch size, so that a partial batch is executed as well
+	private static final int ENTITY_COUNT = 10;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.persist( new IntNoAutoIdTestEntity( 0, i ) );
+			}
+		} );
+
+		// Revision 2
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.find( IntNoAutoIdTestEntity.class, i ).setNumVal( 1 );
+			}
+		} );
+
+		// Revision 3
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				entityManager.remove( entityManager.find( IntNoAutoIdTestEntity.class, i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 1 ).size() );
+		for ( IntNoAutoIdTestEntity entity : entitiesAtRevision( 2 ) ) {
+			assertEquals( Integer.valueOf( 1 ), entity.getNumVal() );
+		}
+		assertEquals( ENTITY_COUNT, entitiesAtRevision( 2 ).size() );
+		assertEquals( 0, entitiesAtRevision( 3 ).size() );
+	}
+
+	@Test
+	public void testOpenAuditRows() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final Number openRows = (Number) entityManager.createNativeQuery(
+					"select count(*) from IntNoAutoIdTestEntity_AUD where REVEND is null"
+			).getSingleResult();
+			assertEquals( ENTITY_COUNT, openRows.intValue() );
+		} );
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<IntNoAutoIdTestEntity> entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery()
+				.forEntitiesAtRevision( IntNoAutoIdTestEntity.class, revision )
+				.getResultList();
+	}
+}
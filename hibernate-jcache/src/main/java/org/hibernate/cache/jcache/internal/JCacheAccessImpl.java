@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -43,6 +47,42 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( keys instanceof Set ? (Set<?>) keys : new HashSet<>( keys ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( entries );
+	}
+
+	@Override
+	public boolean supportsConditionalPuts() {
+		return true;
+	}
+
+	@Override
+	public Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		while ( !underlyingCache.putIfAbsent( key, value ) ) {
+			final Object current = underlyingCache.get( key );
+			if ( current != null ) {
+				return current;
+			}
+			// removed in the meantime
+		}
+		return null;
+	}
+
+	@Override
+	public boolean replaceInCache(
+			Object key,
+			Object expectedValue,
+			Object value,
+			SharedSessionContractImplementor session) {
+		return underlyingCache.replace( key, expectedValue, value );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
@@ -65,6 +68,36 @@ public class StorageAccessTest {
 		}
 	}
 
+	@Test
+	public void testBulkStorageAccessUse() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final JCacheAccessImpl access = (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						final Map<Object, Object> entries = new HashMap<>();
+						entries.put( "key1", "value1" );
+						entries.put( "key2", "value2" );
+						access.putAllIntoCache( entries, s );
+						assertThat( jcache.get( "key1" ), equalTo( "value1" ) );
+						assertThat( jcache.get( "key2" ), equalTo( "value2" ) );
+
+						// misses are left out of the result
+						final Map<Object, Object> cached = access.getAllFromCache( Arrays.asList( "key1", "key2", "key3" ), s );
+						assertThat( cached, equalTo( entries ) );
+
+						access.removeFromCache( "key1", s );
+						assertThat( access.getAllFromCache( Arrays.asList( "key1", "key2" ), s ), equalTo( Map.of( "key2", "value2" ) ) );
+					}
+			);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
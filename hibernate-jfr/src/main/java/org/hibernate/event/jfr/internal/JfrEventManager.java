@@ -44,6 +44,13 @@ public class JfrEventManager implements EventManager {
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
+	private static final EventType hqlInterpretationEventType = EventType.getEventType( HqlInterpretationEvent.class );
+	private static final EventType entityLoadEventType = EventType.getEventType( EntityLoadEvent.class );
+	private static final EventType collectionInitializationEventType = EventType
+			.getEventType( CollectionInitializationEvent.class );
+	private static final EventType naturalIdResolutionEventType = EventType
+			.getEventType( NaturalIdResolutionEvent.class );
+	private static final EventType resultsHydrationEventType = EventType.getEventType( ResultsHydrationEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -557,6 +564,166 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public HqlInterpretationEvent beginHqlInterpretationEvent() {
+		if ( hqlInterpretationEventType.isEnabled() ) {
+			final HqlInterpretationEvent hqlInterpretationEvent = new HqlInterpretationEvent();
+			hqlInterpretationEvent.begin();
+			hqlInterpretationEvent.startedAt = System.nanoTime();
+			return hqlInterpretationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeHqlInterpretationEvent(
+			HibernateMonitoringEvent event,
+			String hql,
+			boolean cacheHit) {
+		if ( event != null ) {
+			final HqlInterpretationEvent hqlInterpretationEvent = (HqlInterpretationEvent) event;
+			hqlInterpretationEvent.end();
+			if ( hqlInterpretationEvent.shouldCommit() ) {
+				hqlInterpretationEvent.executionTime = getExecutionTime( hqlInterpretationEvent.startedAt );
+				hqlInterpretationEvent.hql = hql;
+				hqlInterpretationEvent.cacheHit = cacheHit;
+				hqlInterpretationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public EntityLoadEvent beginEntityLoadEvent() {
+		if ( entityLoadEventType.isEnabled() ) {
+			final EntityLoadEvent entityLoadEvent = new EntityLoadEvent();
+			entityLoadEvent.begin();
+			entityLoadEvent.startedAt = System.nanoTime();
+			return entityLoadEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeEntityLoadEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean found) {
+		if ( event != null ) {
+			final EntityLoadEvent entityLoadEvent = (EntityLoadEvent) event;
+			entityLoadEvent.end();
+			if ( entityLoadEvent.shouldCommit() ) {
+				entityLoadEvent.executionTime = getExecutionTime( entityLoadEvent.startedAt );
+				entityLoadEvent.sessionIdentifier = getSessionIdentifier( session );
+				entityLoadEvent.entityName = getEntityName( persister );
+				entityLoadEvent.found = found;
+				entityLoadEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public CollectionInitializationEvent beginCollectionInitializationEvent() {
+		if ( collectionInitializationEventType.isEnabled() ) {
+			final CollectionInitializationEvent collectionInitializationEvent = new CollectionInitializationEvent();
+			collectionInitializationEvent.begin();
+			collectionInitializationEvent.startedAt = System.nanoTime();
+			return collectionInitializationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeCollectionInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CollectionPersister persister,
+			boolean fromCache) {
+		if ( event != null ) {
+			final CollectionInitializationEvent collectionInitializationEvent = (CollectionInitializationEvent) event;
+			collectionInitializationEvent.end();
+			if ( collectionInitializationEvent.shouldCommit() ) {
+				collectionInitializationEvent.executionTime = getExecutionTime( collectionInitializationEvent.startedAt );
+				collectionInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				collectionInitializationEvent.collectionName = persister.getNavigableRole().getFullPath();
+				collectionInitializationEvent.fromCache = fromCache;
+				collectionInitializationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public NaturalIdResolutionEvent beginNaturalIdResolutionEvent() {
+		if ( naturalIdResolutionEventType.isEnabled() ) {
+			final NaturalIdResolutionEvent naturalIdResolutionEvent = new NaturalIdResolutionEvent();
+			naturalIdResolutionEvent.begin();
+			naturalIdResolutionEvent.startedAt = System.nanoTime();
+			return naturalIdResolutionEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeNaturalIdResolutionEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			boolean cached,
+			boolean found) {
+		if ( event != null ) {
+			final NaturalIdResolutionEvent naturalIdResolutionEvent = (NaturalIdResolutionEvent) event;
+			naturalIdResolutionEvent.end();
+			if ( naturalIdResolutionEvent.shouldCommit() ) {
+				naturalIdResolutionEvent.executionTime = getExecutionTime( naturalIdResolutionEvent.startedAt );
+				naturalIdResolutionEvent.sessionIdentifier = getSessionIdentifier( session );
+				naturalIdResolutionEvent.entityName = getEntityName( persister );
+				naturalIdResolutionEvent.cached = cached;
+				naturalIdResolutionEvent.found = found;
+				naturalIdResolutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public ResultsHydrationEvent beginResultsHydrationEvent() {
+		if ( resultsHydrationEventType.isEnabled() ) {
+			final ResultsHydrationEvent resultsHydrationEvent = new ResultsHydrationEvent();
+			resultsHydrationEvent.begin();
+			resultsHydrationEvent.startedAt = System.nanoTime();
+			return resultsHydrationEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultsHydrationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Class<?> resultType,
+			int rowCount) {
+		if ( event != null ) {
+			final ResultsHydrationEvent resultsHydrationEvent = (ResultsHydrationEvent) event;
+			resultsHydrationEvent.end();
+			if ( resultsHydrationEvent.shouldCommit() ) {
+				resultsHydrationEvent.executionTime = getExecutionTime( resultsHydrationEvent.startedAt );
+				resultsHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultsHydrationEvent.resultType = resultType == null ? null : resultType.getName();
+				resultsHydrationEvent.rowCount = rowCount;
+				resultsHydrationEvent.commit();
+			}
+		}
+	}
+
 	private long getExecutionTime(Long startTime) {
 		return NANOSECONDS.convert( System.nanoTime() - startTime, NANOSECONDS );
 	}
@@ -0,0 +1,143 @@
+package org.hibernate.event.jfr;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.event.jfr.internal.CollectionInitializationEvent;
+import org.hibernate.event.jfr.internal.EntityLoadEvent;
+import org.hibernate.event.jfr.internal.NaturalIdResolutionEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		LoadEventTests.TestEntity.class,
+})
+@SessionFactory
+public class LoadEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					TestEntity entity = new TestEntity( 1, "code_1" );
+					entity.tags.add( "tag_1" );
+					entity.tags.add( "tag_2" );
+					session.persist( entity );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(EntityLoadEvent.NAME)
+	public void testEntityLoadEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.find( TestEntity.class, 1 ) ).isNotNull();
+					assertThat( session.find( TestEntity.class, 2 ) ).isNull();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( EntityLoadEvent.NAME );
+		assertThat( events ).hasSize( 2 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getLong( "executionTime" ) ).isGreaterThan( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "entityName" ) ).isEqualTo( TestEntity.class.getName() );
+		assertThat( event.getBoolean( "found" ) ).isTrue();
+		assertThat( events.get( 1 ).getBoolean( "found" ) ).isFalse();
+	}
+
+	@Test
+	@EnableEvent(CollectionInitializationEvent.NAME)
+	public void testCollectionInitializationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					TestEntity entity = session.find( TestEntity.class, 1 );
+					Hibernate.initialize( entity.tags );
+					assertThat( entity.tags ).hasSize( 2 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( CollectionInitializationEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getLong( "executionTime" ) ).isGreaterThan( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "collectionName" ) ).isEqualTo( TestEntity.class.getName() + ".tags" );
+		assertThat( event.getBoolean( "fromCache" ) ).isFalse();
+	}
+
+	@Test
+	@EnableEvent(NaturalIdResolutionEvent.NAME)
+	public void testNaturalIdResolutionEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.bySimpleNaturalId( TestEntity.class ).load( "code_1" ) ).isNotNull();
+					// now resolved from the persistence context
+					assertThat( session.bySimpleNaturalId( TestEntity.class ).getReference( "code_1" ) ).isNotNull();
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( NaturalIdResolutionEvent.NAME );
+		assertThat( events ).hasSize( 2 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getLong( "executionTime" ) ).isGreaterThan( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "entityName" ) ).isEqualTo( TestEntity.class.getName() );
+		assertThat( event.getBoolean( "cached" ) ).isFalse();
+		assertThat( event.getBoolean( "found" ) ).isTrue();
+		assertThat( events.get( 1 ).getBoolean( "cached" ) ).isTrue();
+		assertThat( events.get( 1 ).getBoolean( "found" ) ).isTrue();
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String code;
+
+		@ElementCollection
+		private Set<String> tags = new HashSet<>();
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
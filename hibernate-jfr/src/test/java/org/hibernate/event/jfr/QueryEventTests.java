@@ -0,0 +1,103 @@
+package org.hibernate.event.jfr;
+
+import java.util.List;
+
+import org.hibernate.event.jfr.internal.HqlInterpretationEvent;
+import org.hibernate.event.jfr.internal.ResultsHydrationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class,
+})
+@SessionFactory
+public class QueryEventTests {
+	private static final String HQL = "select e from TestEntity e where e.name like 'name%'";
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new TestEntity( 1, "name_1" ) );
+					session.persist( new TestEntity( 2, "name_2" ) );
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(HqlInterpretationEvent.NAME)
+	public void testHqlInterpretationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> {
+					session.createSelectionQuery( HQL, TestEntity.class ).getResultList();
+					session.createSelectionQuery( HQL, TestEntity.class ).getResultList();
+				}
+		);
+		List<RecordedEvent> events = events( HqlInterpretationEvent.NAME );
+		assertThat( events ).hasSize( 2 );
+
+		RecordedEvent event = events.get( 1 );
+		assertThat( event.getString( "hql" ) ).isEqualTo( HQL );
+		// the second query is always interpreted from the cache
+		assertThat( event.getBoolean( "cacheHit" ) ).isTrue();
+	}
+
+	@Test
+	@EnableEvent(ResultsHydrationEvent.NAME)
+	public void testResultsHydrationEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					assertThat( session.createSelectionQuery( HQL, TestEntity.class ).getResultList() ).hasSize( 2 );
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = events( ResultsHydrationEvent.NAME );
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getLong( "executionTime" ) ).isGreaterThan( 0 );
+		assertThat( event.getString( "sessionIdentifier" ) ).isEqualTo( sessionId );
+		assertThat( event.getString( "resultType" ) ).isEqualTo( TestEntity.class.getName() );
+		assertThat( event.getInt( "rowCount" ) ).isEqualTo( 2 );
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
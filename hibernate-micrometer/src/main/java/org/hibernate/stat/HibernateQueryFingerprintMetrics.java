@@ -0,0 +1,473 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.common.lang.Nullable;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link MeterBinder} implementation that provides Hibernate query metrics aggregated by
+ * query fingerprint, that is, the query string with its literals and parameters replaced by
+ * {@code ?} and its whitespace normalized. Queries which only differ in their literals, or in
+ * the number of elements of an {@code in} list, hence share their meters.
+ * <p>
+ * To bound the cardinality of the {@code query} tag, only the fingerprints with the most
+ * executions since the previous refresh are tracked individually, up to a configurable
+ * maximum. On every refresh, a fingerprint executed more often than the least executed
+ * tracked fingerprint takes its place, and the meters of the latter are removed. The
+ * executions of all the queries which are not tracked are aggregated under the
+ * {@value #OTHER_QUERIES} tag value.
+ * <p>
+ * The meters are backed by {@link QueryStatistics}, which are aggregated when the meters
+ * are polled, at most once per refresh interval, rather than on every query execution.
+ * Fingerprints promoted by a refresh hence get their meters registered while the meters
+ * are polled, and are published from the next poll on. The counters accumulate the
+ * executions observed since the previous refresh, so they never decrease, even when
+ * statistics are cleared or evicted from the bounded query statistics store. Statistics
+ * must be enabled for the query meters to have values.
+ * <p>
+ * An instance must only be bound to a single {@link MeterRegistry}.
+ * <p>
+ * This binder also records the number of entities in the persistence context at flush time.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateQueryFingerprintMetrics implements MeterBinder {
+
+	/**
+	 * The value of the {@code query} tag for the queries which are not tracked individually.
+	 */
+	public static final String OTHER_QUERIES = "other";
+
+	/**
+	 * The default maximum number of individually tracked query fingerprints.
+	 */
+	public static final int DEFAULT_MAX_FINGERPRINTS = 50;
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	/**
+	 * The default minimum interval between two aggregations of the query statistics.
+	 */
+	public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds( 10 );
+
+	private static final Pattern IN_LIST = Pattern.compile( "\\(\\?(?: ?, ?\\?)+\\)" );
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	private final int maxFingerprints;
+
+	private final long refreshInterval;
+
+	private final Map<String, List<Meter>> trackedFingerprints = new HashMap<>();
+
+	private final Map<String, QueryTotals> totals = new ConcurrentHashMap<>();
+
+	private Map<String, QueryAggregate> lastSeen = Collections.emptyMap();
+
+	private final AtomicLong nextRefresh = new AtomicLong( System.nanoTime() );
+
+	@Nullable
+	private volatile MeterRegistry meterRegistry;
+
+	/**
+	 * Create {@code HibernateQueryFingerprintMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateQueryFingerprintMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateQueryFingerprintMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateQueryFingerprintMetrics} tracking up to
+	 * {@value #DEFAULT_MAX_FINGERPRINTS} query fingerprints, refreshed at most
+	 * every {@link #DEFAULT_REFRESH_INTERVAL}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateQueryFingerprintMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, DEFAULT_MAX_FINGERPRINTS, DEFAULT_REFRESH_INTERVAL );
+	}
+
+	/**
+	 * Create a {@code HibernateQueryFingerprintMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @param maxFingerprints the maximum number of individually tracked query fingerprints
+	 * @param refreshInterval the minimum interval between two aggregations of the query statistics
+	 */
+	public HibernateQueryFingerprintMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			int maxFingerprints,
+			Duration refreshInterval) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+		this.maxFingerprints = maxFingerprints;
+		this.refreshInterval = refreshInterval.toNanos();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		if ( sessionFactory instanceof SessionFactoryImplementor ) {
+			this.meterRegistry = meterRegistry;
+			registerQueryMeters( meterRegistry, OTHER_QUERIES );
+			final DistributionSummary flushedEntities = DistributionSummary.builder( "hibernate.flush.entities" )
+					.tags( tags )
+					.description( "Number of entities in the persistence context at flush time" )
+					.register( meterRegistry );
+
+			final EventListenerRegistry eventListenerRegistry =
+					( (SessionFactoryImplementor) sessionFactory ).getEventEngine().getListenerRegistry();
+			final MetricsEventHandler metricsEventHandler = new MetricsEventHandler( flushedEntities );
+			eventListenerRegistry.appendListeners( EventType.FLUSH, metricsEventHandler );
+			eventListenerRegistry.appendListeners( EventType.AUTO_FLUSH, metricsEventHandler );
+		}
+	}
+
+	/**
+	 * Aggregates the query executions since the previous refresh by fingerprint, and replaces
+	 * the least executed tracked fingerprints by more executed ones.
+	 */
+	synchronized void refresh(Statistics statistics, MeterRegistry meterRegistry) {
+		final Map<String, QueryAggregate> seen = new HashMap<>();
+		final Map<String, QueryAggregate> refreshed = new HashMap<>();
+		for ( String query : statistics.getQueries() ) {
+			final QueryAggregate current = new QueryAggregate( statistics.getQueryStatistics( query ) );
+			seen.put( query, current );
+			refreshed.computeIfAbsent( fingerprint( query ), fingerprint -> new QueryAggregate() )
+					.addSince( current, lastSeen.get( query ) );
+		}
+		lastSeen = seen;
+
+		// the tracked fingerprints, least executed first
+		final PriorityQueue<Map.Entry<String, QueryAggregate>> tracked =
+				new PriorityQueue<>( Comparator.comparingLong( entry -> entry.getValue().executionCount ) );
+		for ( String fingerprint : trackedFingerprints.keySet() ) {
+			tracked.add( Map.entry( fingerprint, refreshed.getOrDefault( fingerprint, QueryAggregate.EMPTY ) ) );
+		}
+		final List<Map.Entry<String, QueryAggregate>> candidates = new ArrayList<>();
+		for ( Map.Entry<String, QueryAggregate> entry : refreshed.entrySet() ) {
+			if ( !trackedFingerprints.containsKey( entry.getKey() ) ) {
+				candidates.add( entry );
+			}
+		}
+		candidates.sort( (e1, e2) -> Long.compare( e2.getValue().executionCount, e1.getValue().executionCount ) );
+		for ( Map.Entry<String, QueryAggregate> candidate : candidates ) {
+			if ( trackedFingerprints.size() >= maxFingerprints ) {
+				if ( tracked.isEmpty() || tracked.peek().getValue().executionCount >= candidate.getValue().executionCount ) {
+					break;
+				}
+				removeQueryMeters( meterRegistry, tracked.poll().getKey() );
+			}
+			trackedFingerprints.put( candidate.getKey(), registerQueryMeters( meterRegistry, candidate.getKey() ) );
+			tracked.add( candidate );
+		}
+
+		final QueryAggregate other = new QueryAggregate();
+		for ( Map.Entry<String, QueryAggregate> entry : refreshed.entrySet() ) {
+			if ( !trackedFingerprints.containsKey( entry.getKey() ) ) {
+				other.add( entry.getValue() );
+			}
+		}
+		refreshed.put( OTHER_QUERIES, other );
+		for ( Map.Entry<String, QueryTotals> entry : totals.entrySet() ) {
+			entry.getValue().record( refreshed.getOrDefault( entry.getKey(), QueryAggregate.EMPTY ) );
+		}
+	}
+
+	private void removeQueryMeters(MeterRegistry meterRegistry, String fingerprint) {
+		for ( Meter meter : trackedFingerprints.remove( fingerprint ) ) {
+			meterRegistry.remove( meter );
+		}
+		totals.remove( fingerprint );
+	}
+
+	private List<Meter> registerQueryMeters(MeterRegistry meterRegistry, String fingerprint) {
+		totals.putIfAbsent( fingerprint, new QueryTotals() );
+		final List<Meter> meters = new ArrayList<>( 3 );
+		meters.add( FunctionTimer.builder(
+				"hibernate.query.fingerprint.execution",
+				this,
+				metrics -> metrics.totals( fingerprint ).executionCount,
+				metrics -> metrics.totals( fingerprint ).executionTotalTime,
+				TimeUnit.MILLISECONDS
+		)
+				.tags( tags )
+				.tags( "query", fingerprint )
+				.description( "Query executions" )
+				.register( meterRegistry ) );
+
+		meters.add( TimeGauge.builder(
+				"hibernate.query.fingerprint.execution.max",
+				this,
+				TimeUnit.MILLISECONDS,
+				metrics -> metrics.totals( fingerprint ).executionMaxTime
+		)
+				.tags( tags )
+				.tags( "query", fingerprint )
+				.description( "Query maximum execution time" )
+				.register( meterRegistry ) );
+
+		meters.add( FunctionCounter.builder(
+				"hibernate.query.fingerprint.rows",
+				this,
+				metrics -> metrics.totals( fingerprint ).executionRowCount
+		)
+				.tags( tags )
+				.tags( "query", fingerprint )
+				.description( "Number of rows processed for a query" )
+				.register( meterRegistry ) );
+		return meters;
+	}
+
+	/**
+	 * The values of the meters of a fingerprint, refreshed first if the refresh interval elapsed.
+	 */
+	private QueryTotals totals(String fingerprint) {
+		refreshIfNecessary();
+		return totals.getOrDefault( fingerprint, QueryTotals.EMPTY );
+	}
+
+	private void refreshIfNecessary() {
+		final MeterRegistry meterRegistry = this.meterRegistry;
+		final long now = System.nanoTime();
+		final long next = nextRefresh.get();
+		if ( meterRegistry != null && now - next >= 0 && nextRefresh.compareAndSet( next, now + refreshInterval ) ) {
+			refresh( sessionFactory.getStatistics(), meterRegistry );
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of a query string: string and numeric literals as well as
+	 * named, ordinal and JDBC parameters are replaced by {@code ?}, lists of those are
+	 * collapsed into a single one, and whitespace is normalized.
+	 */
+	static String fingerprint(String query) {
+		final StringBuilder fingerprint = new StringBuilder( query.length() );
+		final int length = query.length();
+		int i = 0;
+		while ( i < length ) {
+			final char c = query.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				while ( i < length && Character.isWhitespace( query.charAt( i ) ) ) {
+					i++;
+				}
+				fingerprint.append( ' ' );
+			}
+			else if ( c == '\'' ) {
+				// string literal, where quotes are escaped by doubling them
+				i++;
+				while ( i < length ) {
+					if ( query.charAt( i ) == '\'' ) {
+						if ( i + 1 < length && query.charAt( i + 1 ) == '\'' ) {
+							i += 2;
+						}
+						else {
+							break;
+						}
+					}
+					else {
+						i++;
+					}
+				}
+				i++;
+				fingerprint.append( '?' );
+			}
+			else if ( c == ':' && i + 1 < length && Character.isJavaIdentifierStart( query.charAt( i + 1 ) ) ) {
+				// named parameter
+				i++;
+				while ( i < length && Character.isJavaIdentifierPart( query.charAt( i ) ) ) {
+					i++;
+				}
+				fingerprint.append( '?' );
+			}
+			else if ( c == '?' ) {
+				// ordinal or JDBC parameter
+				i++;
+				while ( i < length && Character.isDigit( query.charAt( i ) ) ) {
+					i++;
+				}
+				fingerprint.append( '?' );
+			}
+			else if ( Character.isDigit( c ) && !isIdentifierPart( fingerprint ) ) {
+				// numeric literal, including decimals, exponents and type suffixes
+				while ( i < length
+						&& ( Character.isLetterOrDigit( query.charAt( i ) ) || query.charAt( i ) == '.' ) ) {
+					i++;
+				}
+				fingerprint.append( '?' );
+			}
+			else {
+				fingerprint.append( c );
+				i++;
+			}
+		}
+		return IN_LIST.matcher( fingerprint.toString().trim() ).replaceAll( "(?)" );
+	}
+
+	private static boolean isIdentifierPart(StringBuilder fingerprint) {
+		return fingerprint.length() > 0
+				&& Character.isJavaIdentifierPart( fingerprint.charAt( fingerprint.length() - 1 ) );
+	}
+
+	private static class QueryAggregate {
+		static final QueryAggregate EMPTY = new QueryAggregate();
+
+		long executionCount;
+		long executionTotalTime;
+		long executionMaxTime;
+		long executionRowCount;
+
+		@Nullable
+		final QueryStatistics source;
+
+		QueryAggregate() {
+			source = null;
+		}
+
+		QueryAggregate(QueryStatistics queryStatistics) {
+			executionCount = queryStatistics.getExecutionCount();
+			executionTotalTime = queryStatistics.getExecutionTotalTime();
+			executionMaxTime = queryStatistics.getExecutionMaxTime();
+			executionRowCount = queryStatistics.getExecutionRowCount();
+			source = queryStatistics;
+		}
+
+		void add(QueryAggregate aggregate) {
+			executionCount += aggregate.executionCount;
+			executionTotalTime += aggregate.executionTotalTime;
+			executionMaxTime = Math.max( executionMaxTime, aggregate.executionMaxTime );
+			executionRowCount += aggregate.executionRowCount;
+		}
+
+		/**
+		 * Adds the executions of a query since it was last seen, or all of them if its
+		 * statistics were cleared or evicted, and possibly recreated, in the meantime.
+		 */
+		void addSince(QueryAggregate current, @Nullable QueryAggregate previous) {
+			if ( previous == null
+					|| previous.source != current.source
+					|| current.executionCount < previous.executionCount ) {
+				add( current );
+			}
+			else {
+				executionCount += current.executionCount - previous.executionCount;
+				executionTotalTime += Math.max( current.executionTotalTime - previous.executionTotalTime, 0 );
+				executionMaxTime = Math.max( executionMaxTime, current.executionMaxTime );
+				executionRowCount += Math.max( current.executionRowCount - previous.executionRowCount, 0 );
+			}
+		}
+	}
+
+	/**
+	 * The values of the meters of a {@code query} tag: the counts only ever increase,
+	 * while the maximum execution time is the one of the statistics last refreshed.
+	 */
+	private static class QueryTotals {
+		static final QueryTotals EMPTY = new QueryTotals();
+
+		volatile long executionCount;
+		volatile long executionTotalTime;
+		volatile long executionMaxTime;
+		volatile long executionRowCount;
+
+		void record(QueryAggregate executions) {
+			executionCount += executions.executionCount;
+			executionTotalTime += executions.executionTotalTime;
+			executionMaxTime = executions.executionMaxTime;
+			executionRowCount += executions.executionRowCount;
+		}
+	}
+
+	static class MetricsEventHandler implements FlushEventListener, AutoFlushEventListener {
+
+		private final DistributionSummary flushedEntities;
+
+		MetricsEventHandler(DistributionSummary flushedEntities) {
+			this.flushedEntities = flushedEntities;
+		}
+
+		@Override
+		public void onFlush(FlushEvent event) {
+			flushedEntities.record( event.getSession().getPersistenceContextInternal().getNumberOfManagedEntities() );
+		}
+
+		@Override
+		public void onAutoFlush(AutoFlushEvent event) {
+			if ( event.isFlushRequired() ) {
+				flushedEntities.record( event.getSession().getPersistenceContextInternal().getNumberOfManagedEntities() );
+			}
+		}
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.time.Duration;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateQueryFingerprintMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerQueryFingerprintMetricsTest extends BaseCoreFunctionalTestCase {
+
+	private static final String FINGERPRINT = "select a from Account a where a.shortCode = ?";
+
+	private static final String COUNT_FINGERPRINT = "select count(*) from Account a";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME, "something" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME_IS_JNDI, "false" );
+	}
+
+	@Before
+	public void clearStatistics() {
+		sessionFactory().getStatistics().clear();
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+		inTransaction( s -> s.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	public void testQueriesAggregatedByFingerprint() {
+		inTransaction( s -> {
+			s.persist( new Account( new AccountId( 1 ), "first" ) );
+			s.persist( new Account( new AccountId( 2 ), "second" ) );
+		} );
+
+		new HibernateQueryFingerprintMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty(), 1, Duration.ZERO )
+				.bindTo( registry );
+
+		inTransaction( s -> {
+			s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			s.createSelectionQuery( "select a  from Account a\nwhere a.shortCode = 'second'", Account.class ).list();
+			s.createSelectionQuery( "select a from Account a where a.shortCode = :code", Account.class )
+					.setParameter( "code", "first" )
+					.list();
+			s.createSelectionQuery( "select count(*) from Account a", Long.class ).getSingleResult();
+		} );
+		poll();
+
+		Assert.assertEquals(
+				3,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer().count(),
+				0
+		);
+		Assert.assertEquals(
+				3,
+				registry.get( "hibernate.query.fingerprint.rows" ).tags( "query", FINGERPRINT ).functionCounter().count(),
+				0
+		);
+		Assert.assertNotNull(
+				registry.get( "hibernate.query.fingerprint.execution.max" ).tags( "query", FINGERPRINT ).timeGauge()
+		);
+
+		// only one fingerprint is tracked, the remaining query is aggregated
+		Assert.assertEquals( 2, registry.find( "hibernate.query.fingerprint.execution" ).functionTimers().size() );
+		Assert.assertEquals(
+				1,
+				registry.get( "hibernate.query.fingerprint.execution" )
+						.tags( "query", HibernateQueryFingerprintMetrics.OTHER_QUERIES )
+						.functionTimer()
+						.count(),
+				0
+		);
+
+		Assert.assertEquals( 1, registry.get( "hibernate.flush.entities" ).summary().count() );
+		Assert.assertEquals( 2, registry.get( "hibernate.flush.entities" ).summary().max(), 0 );
+	}
+
+	@Test
+	public void testCountsSurviveClearedStatistics() {
+		inTransaction( s -> s.persist( new Account( new AccountId( 1 ), "first" ) ) );
+
+		new HibernateQueryFingerprintMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty(), 1, Duration.ZERO )
+				.bindTo( registry );
+
+		inTransaction( s -> {
+			s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			s.createSelectionQuery( "select count(*) from Account a", Long.class ).getSingleResult();
+		} );
+		poll();
+		Assert.assertEquals(
+				2,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer().count(),
+				0
+		);
+
+		// the statistics of evicted queries are dropped in the same way
+		sessionFactory().getStatistics().clear();
+
+		inTransaction( s -> {
+			s.createSelectionQuery( "select a from Account a where a.shortCode = 'second'", Account.class ).list();
+			s.createSelectionQuery( "select count(*) from Account a", Long.class ).getSingleResult();
+		} );
+		poll();
+		Assert.assertEquals(
+				3,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer().count(),
+				0
+		);
+		Assert.assertEquals(
+				2,
+				registry.get( "hibernate.query.fingerprint.execution" )
+						.tags( "query", HibernateQueryFingerprintMetrics.OTHER_QUERIES )
+						.functionTimer()
+						.count(),
+				0
+		);
+	}
+
+	@Test
+	public void testRecreatedStatisticsAreCountedFully() {
+		inTransaction( s -> s.persist( new Account( new AccountId( 1 ), "first" ) ) );
+
+		new HibernateQueryFingerprintMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty(), 1, Duration.ZERO )
+				.bindTo( registry );
+
+		inTransaction( s -> {
+			for ( int i = 0; i < 2; i++ ) {
+				s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			}
+		} );
+		poll();
+
+		// the statistics of the query are recreated with more executions than before
+		sessionFactory().getStatistics().clear();
+		inTransaction( s -> {
+			for ( int i = 0; i < 3; i++ ) {
+				s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			}
+		} );
+		poll();
+
+		Assert.assertEquals(
+				5,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer().count(),
+				0
+		);
+	}
+
+	@Test
+	public void testLeastExecutedFingerprintIsReplaced() {
+		inTransaction( s -> s.persist( new Account( new AccountId( 1 ), "first" ) ) );
+
+		new HibernateQueryFingerprintMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty(), 1, Duration.ZERO )
+				.bindTo( registry );
+
+		inTransaction( s -> s.createSelectionQuery( "select count(*) from Account a", Long.class ).getSingleResult() );
+		poll();
+		Assert.assertNotNull(
+				registry.find( "hibernate.query.fingerprint.execution" ).tags( "query", COUNT_FINGERPRINT ).functionTimer()
+		);
+
+		inTransaction( s -> {
+			for ( int i = 0; i < 2; i++ ) {
+				s.createSelectionQuery( "select a from Account a where a.shortCode = 'first'", Account.class ).list();
+			}
+		} );
+		poll();
+		Assert.assertNull(
+				registry.find( "hibernate.query.fingerprint.execution" ).tags( "query", COUNT_FINGERPRINT ).functionTimer()
+		);
+		Assert.assertEquals(
+				2,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer().count(),
+				0
+		);
+
+		inTransaction( s -> {
+			for ( int i = 0; i < 3; i++ ) {
+				s.createSelectionQuery( "select count(*) from Account a", Long.class ).getSingleResult();
+			}
+		} );
+		poll();
+		Assert.assertNull(
+				registry.find( "hibernate.query.fingerprint.execution" ).tags( "query", FINGERPRINT ).functionTimer()
+		);
+		Assert.assertEquals(
+				3,
+				registry.get( "hibernate.query.fingerprint.execution" ).tags( "query", COUNT_FINGERPRINT ).functionTimer().count(),
+				0
+		);
+		Assert.assertEquals( 2, registry.find( "hibernate.query.fingerprint.execution" ).functionTimers().size() );
+	}
+
+	/**
+	 * Polls the meters, as a registry does when publishing them.
+	 */
+	private void poll() {
+		for ( Meter meter : registry.getMeters() ) {
+			meter.measure();
+		}
+	}
+}
@@ -24,7 +24,9 @@ import org.hibernate.query.sqm.function.SqmFunctionDescriptor;
 import org.hibernate.query.sqm.produce.function.FunctionReturnTypeResolver;
 import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
 import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
 
 public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 	protected final Map<FunctionKey, SqmFunctionDescriptor> map = new HashMap<>();
@@ -55,6 +57,39 @@ public class BaseSqmFunctionDescriptors implements KeyedSqmFunctionDescriptors {
 		}
 	}
 
+	/**
+	 * Replaces the spatial relation functions by functions which first test whether the bounding
+	 * boxes of the arguments intersect, so that the database can select the candidate rows using
+	 * a spatial index before evaluating the exact relation.
+	 *
+	 * @param functionContributions the function contributions
+	 * @param boundingBoxIntersectsPattern the pattern testing whether the bounding boxes of
+	 * {@code ?1} and {@code ?2} intersect
+	 */
+	protected void applyBoundingBoxPreFilter(
+			FunctionContributions functionContributions,
+			String boundingBoxIntersectsPattern) {
+		final BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+				.getBasicTypeRegistry()
+				.resolve( StandardBasicTypes.BOOLEAN );
+		for ( CommonSpatialFunction func : filter( CommonSpatialFunction.values() ) ) {
+			if ( func.requiresIntersectingBoundingBoxes() ) {
+				final String name = func.getKey().getName();
+				map.put(
+						func.getKey(),
+						functionContributions.getFunctionRegistry()
+								.patternDescriptorBuilder(
+										name,
+										"(" + boundingBoxIntersectsPattern + " and " + name + "(?1,?2))"
+								)
+								.setExactArgumentCount( 2 )
+								.setInvariantType( booleanType )
+								.descriptor()
+				);
+			}
+		}
+	}
+
 	public CommonSpatialFunction[] filter(CommonSpatialFunction[] functions) {
 		return functions;
 	}
@@ -114,6 +114,23 @@ public enum CommonSpatialFunction {
 		return numArgs;
 	}
 
+	/**
+	 * Whether this function can only be true when the bounding boxes of its arguments intersect.
+	 */
+	public boolean requiresIntersectingBoundingBoxes() {
+		switch ( this ) {
+			case ST_CONTAINS:
+			case ST_CROSSES:
+			case ST_INTERSECTS:
+			case ST_OVERLAPS:
+			case ST_TOUCHES:
+			case ST_WITHIN:
+				return true;
+			default:
+				return false;
+		}
+	}
+
 	public Type getType() {
 		switch ( this ) {
 			case ST_SRID:
@@ -29,6 +29,16 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether the spatial relation functions are rendered with a preceding test on the
+	 * bounding boxes of their arguments, which allows the database to use a spatial index
+	 * to select candidate rows. Only applies to databases which do not already do this
+	 * themselves, currently H2GIS and MySQL.
+	 * <p>
+	 * Default is {@code false}.
+	 */
+	public static final String BOUNDING_BOX_PRE_FILTER = "hibernate.spatial.bbox_pre_filter";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
@@ -9,9 +9,12 @@ package org.hibernate.spatial.dialect.h2gis;
 
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.HSMessageLogger;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.KeyedSqmFunctionDescriptors;
 import org.hibernate.spatial.contributor.ContributorImplementor;
 
@@ -31,7 +34,7 @@ public class H2GisDialectContributor implements ContributorImplementor {
 	@Override
 	public void contributeFunctions(FunctionContributions functionContributions) {
 		HSMessageLogger.SPATIAL_MSG_LOGGER.functionContributions( this.getClass().getCanonicalName() );
-		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors( functionContributions );
+		final KeyedSqmFunctionDescriptors functions = new H2SqmFunctionDescriptors( functionContributions, boundingBoxPreFilter() );
 		final SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
 		functions.asMap().forEach( (key, desc) -> {
 			functionRegistry.register( key.getName(), desc );
@@ -40,6 +43,14 @@ public class H2GisDialectContributor implements ContributorImplementor {
 	}
 
 
+	private boolean boundingBoxPreFilter() {
+		return getServiceRegistry().getService( ConfigurationService.class ).getSetting(
+				HibernateSpatialConfigurationSettings.BOUNDING_BOX_PRE_FILTER,
+				StandardConverters.BOOLEAN,
+				false
+		);
+	}
+
 	@Override
 	public ServiceRegistry getServiceRegistry() {
 		return this.serviceRegistry;
@@ -12,6 +12,13 @@ import org.hibernate.spatial.BaseSqmFunctionDescriptors;
 
 public class H2SqmFunctionDescriptors extends BaseSqmFunctionDescriptors {
 	public H2SqmFunctionDescriptors(FunctionContributions contributions) {
+		this( contributions, false );
+	}
+
+	public H2SqmFunctionDescriptors(FunctionContributions contributions, boolean boundingBoxPreFilter) {
 		super( contributions );
+		if ( boundingBoxPreFilter ) {
+			applyBoundingBoxPreFilter( contributions, "?1 && ?2" );
+		}
 	}
 }
@@ -71,10 +71,10 @@ public abstract class AbstractCastingPostGISJdbcType implements JdbcType {
 		if ( wkt == null ) {
 			return null;
 		}
-		if ( wkt.startsWith( "00" ) || wkt.startsWith( "01" ) ) {
+		if ( PGWkbHexCodec.isHexWkb( wkt ) ) {
 			//we have a WKB because this wkt starts with the bit-order byte
 
-			ByteBuffer buffer = ByteBuffer.from( wkt );
+			ByteBuffer buffer = PGWkbHexCodec.decode( wkt );
 			final WkbDecoder decoder = Wkb.newDecoder( wkbDialect );
 			return decoder.decode( buffer );
 		}
@@ -63,26 +63,30 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 		if ( object == null ) {
 			return null;
 		}
-		ByteBuffer buffer;
+		if ( object instanceof String ) {
+			return toGeometry( (String) object );
+		}
 		if ( object instanceof PGobject ) {
-			String pgValue = ( (PGobject) object ).getValue();
-			if (pgValue == null) {
-				return null;
-			}
-			if ( pgValue.startsWith( "00" ) || pgValue.startsWith( "01" ) ) {
-				//we have a WKB because this pgValue starts with the bit-order byte
-				buffer = ByteBuffer.from( pgValue );
-				final WkbDecoder decoder = Wkb.newDecoder( wkbDialect );
-				return decoder.decode( buffer );
-			}
-			else {
-				return parseWkt( pgValue );
-			}
-
+			return toGeometry( ( (PGobject) object ).getValue() );
 		}
 		throw new IllegalStateException( "Received object of type " + object.getClass().getCanonicalName() );
 	}
 
+	private Geometry<?> toGeometry(String pgValue) {
+		if ( pgValue == null ) {
+			return null;
+		}
+		if ( PGWkbHexCodec.isHexWkb( pgValue ) ) {
+			//we have a WKB because this pgValue starts with the bit-order byte
+			final ByteBuffer buffer = PGWkbHexCodec.decode( pgValue );
+			final WkbDecoder decoder = Wkb.newDecoder( wkbDialect );
+			return decoder.decode( buffer );
+		}
+		else {
+			return parseWkt( pgValue );
+		}
+	}
+
 	private static Geometry<?> parseWkt(String pgValue) {
 		final WktDecoder decoder = Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 );
 		return decoder.decode( pgValue );
@@ -114,7 +118,7 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 			private PGobject toPGobject(X value, WrapperOptions options) throws SQLException {
 				final WkbEncoder encoder = Wkb.newEncoder( wkbDialect );
 				final Geometry<?> geometry = getJavaType().unwrap( value, Geometry.class, options );
-				final String hexString = encoder.encode( geometry, ByteOrder.NDR ).toString();
+				final String hexString = PGWkbHexCodec.encode( encoder.encode( geometry, ByteOrder.NDR ) );
 				final PGobject obj = new PGobject();
 				obj.setType( getPGTypeName() );
 				obj.setValue( hexString );
@@ -128,10 +132,11 @@ public abstract class AbstractPostGISJdbcType implements JdbcType {
 	public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
 		return new BasicExtractor<X>( javaType, this ) {
 
-
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return getJavaType().wrap( toGeometry( rs.getObject( paramIndex ) ), options );
+				// the textual representation is the hexadecimal EWKB, reading it as a
+				// string spares the driver the creation of a PGobject for every row
+				return getJavaType().wrap( toGeometry( rs.getString( paramIndex ) ), options );
 			}
 
 			@Override
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.dialect.postgis;
+
+import java.util.Arrays;
+
+import org.geolatte.geom.ByteBuffer;
+
+/**
+ * Converts between the hexadecimal (E)WKB text representation Postgis uses for
+ * geometries and geographies, and the raw bytes handed to the WKB codecs.
+ * <p>
+ * Uses lookup tables, so that no intermediate objects are created per byte.
+ */
+final class PGWkbHexCodec {
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		Arrays.fill( HEX_VALUES, (byte) -1 );
+		for ( int i = 0; i < 10; i++ ) {
+			HEX_VALUES['0' + i] = (byte) i;
+		}
+		for ( int i = 0; i < 6; i++ ) {
+			HEX_VALUES['a' + i] = (byte) ( 10 + i );
+			HEX_VALUES['A' + i] = (byte) ( 10 + i );
+		}
+	}
+
+	private PGWkbHexCodec() {
+	}
+
+	/**
+	 * Returns whether the value is a hexadecimal WKB, i.e. starts with the byte-order byte
+	 */
+	static boolean isHexWkb(String value) {
+		return value.startsWith( "00" ) || value.startsWith( "01" );
+	}
+
+	static ByteBuffer decode(String hex) {
+		final int length = hex.length();
+		if ( ( length & 1 ) != 0 ) {
+			throw new IllegalArgumentException( "Hexadecimal WKB must have an even number of characters" );
+		}
+		final byte[] bytes = new byte[length >> 1];
+		for ( int i = 0, j = 0; i < length; i += 2, j++ ) {
+			bytes[j] = (byte) ( ( digit( hex, i ) << 4 ) | digit( hex, i + 1 ) );
+		}
+		return ByteBuffer.from( bytes );
+	}
+
+	static String encode(ByteBuffer buffer) {
+		final byte[] bytes = buffer.toByteArray();
+		final char[] chars = new char[bytes.length << 1];
+		for ( int i = 0, j = 0; i < bytes.length; i++ ) {
+			chars[j++] = HEX_DIGITS[( bytes[i] >> 4 ) & 0xF];
+			chars[j++] = HEX_DIGITS[bytes[i] & 0xF];
+		}
+		return new String( chars );
+	}
+
+	private static int digit(String hex, int index) {
+		final char c = hex.charAt( index );
+		final int value = c < 128 ? HEX_VALUES[c] : -1;
+		if ( value < 0 ) {
+			throw new IllegalArgumentException( "Invalid hexadecimal character '" + c + "' at position " + index );
+		}
+		return value;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+package org.hibernate.spatial.dialect.h2gis;
+
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.Polygon;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+
+import static org.geolatte.geom.builder.DSL.c;
+import static org.geolatte.geom.builder.DSL.point;
+import static org.geolatte.geom.builder.DSL.polygon;
+import static org.geolatte.geom.builder.DSL.ring;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@value HibernateSpatialConfigurationSettings#BOUNDING_BOX_PRE_FILTER}
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = { BoundingBoxPreFilterTest.Location.class })
+@ServiceRegistry(settings = @Setting(name = HibernateSpatialConfigurationSettings.BOUNDING_BOX_PRE_FILTER, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class BoundingBoxPreFilterTest {
+	public static CoordinateReferenceSystem<C2D> crs = CoordinateReferenceSystems.PROJECTED_2D_METER;
+
+	// a triangle whose bounding box contains the point (1, 9), but the triangle itself doesn't
+	private final Polygon<C2D> triangle = polygon(
+			crs,
+			ring( c( 0.0, 0.0 ), c( 10.0, 0.0 ), c( 10.0, 10.0 ), c( 0.0, 0.0 ) )
+	);
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( Location.from( 1L, point( crs, c( 9.0, 1.0 ) ) ) );
+					session.persist( Location.from( 2L, point( crs, c( 1.0, 9.0 ) ) ) );
+					session.persist( Location.from( 3L, point( crs, c( 20.0, 20.0 ) ) ) );
+				}
+		);
+	}
+
+	@Test
+	public void testIntersects(SessionFactoryScope scope) {
+		SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		inspector.clear();
+		scope.inTransaction(
+				session -> {
+					List<Long> results = session.createQuery(
+									"select l.id from Location l where st_intersects(l.geom, :filter) = true",
+									Long.class
+							)
+							.setParameter( "filter", triangle )
+							.getResultList();
+					assertEquals( List.of( 1L ), results );
+					String sql = inspector.getSqlQueries().get( 0 );
+					assertTrue( sql.matches( ".*geom\\w*\\s*&&.*st_intersects.*" ), "bounding box pre-filter is not rendered" );
+				}
+		);
+	}
+
+	@Test
+	public void testWithin(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					List<Long> results = session.createQuery(
+									"select l.id from Location l where within(l.geom, :filter) = true",
+									Long.class
+							)
+							.setParameter( "filter", triangle )
+							.getResultList();
+					assertEquals( List.of( 1L ), results );
+				}
+		);
+	}
+
+	@AfterEach
+	public void cleanUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Location" ).executeUpdate()
+		);
+	}
+
+	@Entity(name = "Location")
+	@Table(name = "location")
+	public static class Location {
+
+		static Location from(Long id, Point<C2D> pnt) {
+			Location res = new Location();
+			res.id = id;
+			res.geom = pnt;
+			return res;
+		}
+
+		@Id
+		private Long id;
+
+		Point<C2D> geom;
+	}
+}
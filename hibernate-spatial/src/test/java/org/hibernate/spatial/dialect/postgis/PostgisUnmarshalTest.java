@@ -7,9 +7,11 @@
 package org.hibernate.spatial.dialect.postgis;
 
 import java.sql.SQLException;
+import java.util.Locale;
 
 import org.junit.Test;
 
+import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.C2D;
 import org.geolatte.geom.G2D;
@@ -23,6 +25,7 @@ import org.postgresql.util.PGobject;
 import static org.geolatte.geom.builder.DSL.c;
 import static org.geolatte.geom.builder.DSL.g;
 import static org.geolatte.geom.builder.DSL.linestring;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -66,11 +69,28 @@ public class PostgisUnmarshalTest {
 	}
 
 
+	@Test
+	public void testWkbLowerCase() throws SQLException {
+		String wkb = Wkb.toWkb( geom, ByteOrder.NDR ).toString().toLowerCase( Locale.ROOT );
+		testCase( wkb, geom );
+	}
+
+	@Test
+	public void testHexCodecRoundTrip() {
+		ByteBuffer wkb = Wkb.toWkb( geom, ByteOrder.NDR );
+		String hex = PGWkbHexCodec.encode( wkb );
+		assertEquals( wkb.toString().toUpperCase( Locale.ROOT ), hex );
+		assertArrayEquals( wkb.toByteArray(), PGWkbHexCodec.decode( hex ).toByteArray() );
+	}
+
 	public void testCase(String pgValue, Geometry<?> expected) throws SQLException {
 		PGobject pgo = new PGobject();
 		pgo.setValue( pgValue );
 		Geometry<?> received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgo );
 		assertEquals( String.format( "Failure on %s", pgValue ), expected, received );
+		// values read through ResultSet#getString
+		received = PGGeometryJdbcType.INSTANCE_WKB_2.toGeometry( pgValue );
+		assertEquals( String.format( "Failure on %s", pgValue ), expected, received );
 	}
 
 
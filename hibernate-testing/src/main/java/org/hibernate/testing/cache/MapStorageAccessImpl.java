@@ -39,6 +39,27 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 		getOrMakeDataMap().put( key, value );
 	}
 
+	@Override
+	public boolean supportsConditionalPuts() {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object putIfAbsentIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		return getOrMakeDataMap().putIfAbsent( key, value );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean replaceInCache(
+			Object key,
+			Object expectedValue,
+			Object value,
+			SharedSessionContractImplementor session) {
+		return getOrMakeDataMap().replace( key, expectedValue, value );
+	}
+
 	protected ConcurrentMap getOrMakeDataMap() {
 		if ( data == null ) {
 			data = new ConcurrentHashMap();
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+import org.hibernate.annotations.AttributeBinderType;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares an approximate nearest neighbour index on a vector attribute, which is
+ * exported along with the schema. A nearest neighbour query like
+ * <pre>
+ * select e from Entity e order by euclidean_distance(e.embedding, :vec) limit 10
+ * </pre>
+ * can only use the index if the distance function of the query matches the
+ * {@linkplain #distance() distance} of the index.
+ * <p>
+ * Currently only supported on PostgreSQL with the {@code pgvector} extension.
+ *
+ * @since 7.0
+ */
+@Incubating
+@Target({FIELD, METHOD})
+@Retention(RUNTIME)
+@AttributeBinderType(binder = VectorIndexBinder.class)
+public @interface VectorIndex {
+	/**
+	 * The name of the index, defaults to {@code <table>_<column>_<type>_idx}, or to a
+	 * hashed name if that is longer than the database allows.
+	 */
+	String name() default "";
+
+	/**
+	 * The type of the index.
+	 */
+	Type type() default Type.HNSW;
+
+	/**
+	 * The distance function for which the index is built.
+	 */
+	Distance distance() default Distance.EUCLIDEAN;
+
+	/**
+	 * The {@code m} parameter of an {@link Type#HNSW} index,
+	 * or a negative value for the database default.
+	 */
+	int m() default -1;
+
+	/**
+	 * The {@code ef_construction} parameter of an {@link Type#HNSW} index,
+	 * or a negative value for the database default.
+	 */
+	int efConstruction() default -1;
+
+	/**
+	 * The {@code lists} parameter of an {@link Type#IVFFLAT} index,
+	 * or a negative value for the database default.
+	 */
+	int lists() default -1;
+
+	enum Type {
+		/**
+		 * A hierarchical navigable small world graph index.
+		 */
+		HNSW,
+		/**
+		 * An inverted file index with flat compression.
+		 */
+		IVFFLAT
+	}
+
+	enum Distance {
+		/**
+		 * {@code euclidean_distance}/{@code l2_distance}
+		 */
+		EUCLIDEAN( "vector_l2_ops" ),
+		/**
+		 * {@code negative_inner_product}
+		 */
+		INNER_PRODUCT( "vector_ip_ops" ),
+		/**
+		 * {@code cosine_distance}
+		 */
+		COSINE( "vector_cosine_ops" );
+
+		private final String operatorClass;
+
+		Distance(String operatorClass) {
+			this.operatorClass = operatorClass;
+		}
+
+		public String getOperatorClass() {
+			return operatorClass;
+		}
+	}
+}
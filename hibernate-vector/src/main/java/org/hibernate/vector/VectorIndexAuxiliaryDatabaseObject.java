@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.util.Locale;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.NamingHelper;
+import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
+import org.hibernate.boot.model.relational.QualifiedNameImpl;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Table;
+
+/**
+ * The DDL of a {@link VectorIndex}. Names are resolved on export, since the
+ * physical table and column names are not final when the index is bound.
+ */
+public class VectorIndexAuxiliaryDatabaseObject implements AuxiliaryDatabaseObject {
+	private final String name;
+	private final VectorIndex.Type type;
+	private final VectorIndex.Distance distance;
+	private final int m;
+	private final int efConstruction;
+	private final int lists;
+	private final Table table;
+	private final Column column;
+
+	public VectorIndexAuxiliaryDatabaseObject(VectorIndex annotation, Table table, Column column) {
+		this.name = annotation.name();
+		this.type = annotation.type();
+		this.distance = annotation.distance();
+		this.m = annotation.m();
+		this.efConstruction = annotation.efConstruction();
+		this.lists = annotation.lists();
+		this.table = table;
+		this.column = column;
+	}
+
+	@Override
+	public String getExportIdentifier() {
+		return table.getExportIdentifier() + "." + column.getName() + ".vector_index";
+	}
+
+	@Override
+	public boolean appliesToDialect(Dialect dialect) {
+		return dialect instanceof PostgreSQLDialect;
+	}
+
+	@Override
+	public boolean beforeTablesOnCreation() {
+		return false;
+	}
+
+	@Override
+	public String[] sqlCreateStrings(SqlStringGenerationContext context) {
+		final Dialect dialect = context.getDialect();
+		final StringBuilder sql = new StringBuilder( "create index " )
+				.append( indexName( context ).render( dialect ) )
+				.append( " on " )
+				.append( context.format( table.getQualifiedTableName() ) )
+				.append( " using " )
+				.append( type == VectorIndex.Type.HNSW ? "hnsw" : "ivfflat" )
+				.append( " (" )
+				.append( column.getQuotedName( dialect ) )
+				.append( ' ' )
+				.append( distance.getOperatorClass() )
+				.append( ')' );
+		final String parameters = parameters();
+		if ( !parameters.isEmpty() ) {
+			sql.append( " with (" ).append( parameters ).append( ')' );
+		}
+		return new String[] { sql.toString() };
+	}
+
+	@Override
+	public String[] sqlDropStrings(SqlStringGenerationContext context) {
+		final QualifiedTableName tableName = table.getQualifiedTableName();
+		final String qualifiedIndexName = context.format(
+				new QualifiedNameImpl(
+						null,
+						context.schemaWithDefault( tableName.getSchemaName() ),
+						indexName( context )
+				)
+		);
+		return new String[] { "drop index if exists " + qualifiedIndexName };
+	}
+
+	/**
+	 * The explicit name of the index, or a name generated from the unquoted table and
+	 * column names. A generated name longer than the dialect allows is replaced by a
+	 * hashed name, like other implicit index names. Either is quoted as any other
+	 * identifier of the mapping.
+	 */
+	private Identifier indexName(SqlStringGenerationContext context) {
+		if ( !name.isEmpty() ) {
+			return context.toIdentifier( name );
+		}
+		final Identifier tableName = table.getNameIdentifier();
+		final String generatedName = tableName.getText() + "_" + column.getName()
+				+ "_" + type.name().toLowerCase( Locale.ROOT ) + "_idx";
+		if ( generatedName.length() > context.getDialect().getMaxIdentifierLength() ) {
+			return context.toIdentifier(
+					NamingHelper.INSTANCE.generateHashedConstraintName(
+							"IDX",
+							tableName,
+							Identifier.toIdentifier( column.getName() )
+					)
+			);
+		}
+		return context.toIdentifier( generatedName );
+	}
+
+	private String parameters() {
+		final StringBuilder parameters = new StringBuilder();
+		if ( type == VectorIndex.Type.HNSW ) {
+			appendParameter( parameters, "m", m );
+			appendParameter( parameters, "ef_construction", efConstruction );
+		}
+		else {
+			appendParameter( parameters, "lists", lists );
+		}
+		return parameters.toString();
+	}
+
+	private static void appendParameter(StringBuilder parameters, String name, int value) {
+		if ( value >= 0 ) {
+			if ( parameters.length() > 0 ) {
+				parameters.append( ", " );
+			}
+			parameters.append( name ).append( " = " ).append( value );
+		}
+	}
+}
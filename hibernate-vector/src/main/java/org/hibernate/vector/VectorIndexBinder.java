@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import org.hibernate.AnnotationException;
+import org.hibernate.binder.AttributeBinder;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+
+/**
+ * Binds a {@link VectorIndex} by registering a {@link VectorIndexAuxiliaryDatabaseObject}.
+ */
+public class VectorIndexBinder implements AttributeBinder<VectorIndex> {
+
+	@Override
+	public void bind(
+			VectorIndex annotation,
+			MetadataBuildingContext buildingContext,
+			PersistentClass persistentClass,
+			Property property) {
+		if ( property.getColumnSpan() != 1 ) {
+			throw new AnnotationException(
+					"Property '" + persistentClass.getEntityName() + "." + property.getName()
+							+ "' is annotated '@VectorIndex' but is not mapped to a single column"
+			);
+		}
+		final Selectable selectable = property.getSelectables().get( 0 );
+		if ( !( selectable instanceof Column ) ) {
+			throw new AnnotationException(
+					"Property '" + persistentClass.getEntityName() + "." + property.getName()
+							+ "' is annotated '@VectorIndex' but is mapped to a formula"
+			);
+		}
+		buildingContext.getMetadataCollector().addAuxiliaryDatabaseObject(
+				new VectorIndexAuxiliaryDatabaseObject(
+						annotation,
+						property.getValue().getTable(),
+						(Column) selectable
+				)
+		);
+	}
+}
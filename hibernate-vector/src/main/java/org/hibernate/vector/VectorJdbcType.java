@@ -9,7 +9,6 @@ package org.hibernate.vector;
 import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.BitSet;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.sql.ast.spi.SqlAppender;
@@ -25,6 +24,11 @@ import org.hibernate.type.spi.TypeConfiguration;
 public class VectorJdbcType extends ArrayJdbcType {
 
 	private static final float[] EMPTY = new float[0];
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
 	public VectorJdbcType(JdbcType elementJdbcType) {
 		super( elementJdbcType );
 	}
@@ -54,46 +58,144 @@ public class VectorJdbcType extends ArrayJdbcType {
 		return new BasicExtractor<>( javaTypeDescriptor, this ) {
 			@Override
 			protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( getFloatArray( rs.getString( paramIndex ) ), options );
+				return javaTypeDescriptor.wrap( parseFloatVector( rs.getString( paramIndex ) ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( getFloatArray( statement.getString( index ) ), options );
+				return javaTypeDescriptor.wrap( parseFloatVector( statement.getString( index ) ), options );
 			}
 
 			@Override
 			protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
-				return javaTypeDescriptor.wrap( getFloatArray( statement.getString( name ) ), options );
+				return javaTypeDescriptor.wrap( parseFloatVector( statement.getString( name ) ), options );
 			}
+		};
+	}
 
-			private float[] getFloatArray(String string) {
-				if ( string == null ) {
-					return null;
-				}
-				if ( string.length() == 2 ) {
-					return EMPTY;
-				}
-				final BitSet commaPositions = new BitSet();
-				int size = 1;
-				for ( int i = 1; i < string.length(); i++ ) {
-					final char c = string.charAt( i );
-					if ( c == ',' ) {
-						commaPositions.set( i );
-						size++;
+	/**
+	 * Parses the textual representation of a vector, e.g. {@code [1,2.5,-3e-05]}, without
+	 * allocating intermediate strings for the elements.
+	 */
+	static float[] parseFloatVector(String string) {
+		if ( string == null ) {
+			return null;
+		}
+		final int end = string.length() - 1;
+		if ( end <= 1 ) {
+			return EMPTY;
+		}
+		int size = 1;
+		for ( int i = 1; i < end; i++ ) {
+			if ( string.charAt( i ) == ',' ) {
+				size++;
+			}
+		}
+		final float[] result = new float[size];
+		int floatStartIndex = 1;
+		for ( int index = 0; index < size; index++ ) {
+			int commaIndex = string.indexOf( ',', floatStartIndex );
+			if ( commaIndex == -1 || commaIndex > end ) {
+				commaIndex = end;
+			}
+			result[index] = parseFloat( string, floatStartIndex, commaIndex );
+			floatStartIndex = commaIndex + 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Parses the float between {@code start} and {@code end}. Decimals with at most 15 significant
+	 * digits and a small exponent are converted exactly through a single double operation, see
+	 * Clinger's fast path, and all other input is delegated to {@link Float#parseFloat(String)}.
+	 */
+	private static float parseFloat(String string, int start, int end) {
+		int i = start;
+		final boolean negative = string.charAt( i ) == '-';
+		if ( negative || string.charAt( i ) == '+' ) {
+			i++;
+		}
+		long mantissa = 0;
+		int significantDigits = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean fraction = false;
+		for ( ; i < end; i++ ) {
+			final char c = string.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				digits++;
+				if ( mantissa != 0 || c != '0' ) {
+					if ( ++significantDigits > 15 ) {
+						return Float.parseFloat( string.substring( start, end ) );
 					}
+					mantissa = mantissa * 10 + ( c - '0' );
 				}
-				final float[] result = new float[size];
-				int floatStartIndex = 1;
-				int commaIndex;
-				int index = 0;
-				while ( ( commaIndex = commaPositions.nextSetBit( floatStartIndex ) ) != -1 ) {
-					result[index++] = Float.parseFloat( string.substring( floatStartIndex, commaIndex ) );
-					floatStartIndex = commaIndex + 1;
+				if ( fraction ) {
+					exponent--;
 				}
-				result[index] = Float.parseFloat( string.substring( floatStartIndex, string.length() - 1 ) );
-				return result;
 			}
-		};
+			else if ( c == '.' && !fraction ) {
+				fraction = true;
+			}
+			else if ( ( c == 'e' || c == 'E' ) && digits > 0 && i + 1 < end ) {
+				final int exponentValue = parseExponent( string, i + 1, end );
+				if ( exponentValue == Integer.MIN_VALUE ) {
+					return Float.parseFloat( string.substring( start, end ) );
+				}
+				exponent += exponentValue;
+				break;
+			}
+			else {
+				// whitespace, NaN, Infinity or malformed input
+				return Float.parseFloat( string.substring( start, end ) );
+			}
+		}
+		if ( digits == 0 ) {
+			return Float.parseFloat( string.substring( start, end ) );
+		}
+		if ( mantissa == 0 ) {
+			return negative ? -0f : 0f;
+		}
+		if ( exponent < -22 || exponent > 22 ) {
+			return Float.parseFloat( string.substring( start, end ) );
+		}
+		// Both the mantissa and the power of ten are exact doubles, so the result is correctly rounded
+		final double value = exponent < 0
+				? mantissa / POWERS_OF_TEN[-exponent]
+				: mantissa * POWERS_OF_TEN[exponent];
+		final float result = (float) value;
+		if ( value < Float.MIN_NORMAL || Float.isInfinite( result ) || isFloatMidpoint( value ) ) {
+			// Rounding the double to a float could differ from rounding the decimal to a float
+			return Float.parseFloat( string.substring( start, end ) );
+		}
+		return negative ? -result : result;
+	}
+
+	private static int parseExponent(String string, int start, int end) {
+		int i = start;
+		final boolean negative = string.charAt( i ) == '-';
+		if ( negative || string.charAt( i ) == '+' ) {
+			i++;
+		}
+		if ( i == end || end - i > 3 ) {
+			return Integer.MIN_VALUE;
+		}
+		int exponent = 0;
+		for ( ; i < end; i++ ) {
+			final char c = string.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return Integer.MIN_VALUE;
+			}
+			exponent = exponent * 10 + ( c - '0' );
+		}
+		return negative ? -exponent : exponent;
+	}
+
+	/**
+	 * Whether the positive normal double lies exactly halfway between two floats.
+	 */
+	private static boolean isFloatMidpoint(double value) {
+		// a double has 29 more fraction bits than a float
+		return ( Double.doubleToRawLongBits( value ) & 0x1FFFFFFFL ) == 0x10000000L;
 	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.util.List;
+
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.SqlTypes;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link VectorIndex}
+ */
+@DomainModel(annotatedClasses = PGVectorIndexTest.IndexedVectorEntity.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(value = PostgreSQLDialect.class, matchSubTypes = false)
+public class PGVectorIndexTest {
+
+	@BeforeEach
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.persist( new IndexedVectorEntity( 1L, new float[] { 1, 2, 3 } ) );
+			em.persist( new IndexedVectorEntity( 2L, new float[] { 4, 5, 6 } ) );
+			em.persist( new IndexedVectorEntity( 3L, new float[] { 7, 8, 9 } ) );
+		} );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			em.createMutationQuery( "delete from IndexedVectorEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testIndexExported(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			final String indexDefinition = (String) em.createNativeQuery(
+					"select indexdef from pg_indexes where indexname = 'embedding_hnsw_idx'"
+			).getSingleResult();
+			assertThat( indexDefinition ).containsIgnoringCase( "using hnsw" ).contains( "vector_l2_ops" );
+		} );
+	}
+
+	@Test
+	public void testGeneratedIndexName(SessionFactoryScope scope) {
+		scope.inTransaction( em -> {
+			// generated from the unquoted column name, and folded like any unquoted name
+			final String indexDefinition = (String) em.createNativeQuery(
+					"select indexdef from pg_indexes where indexname = 'indexedvectorentity_other_embedding_ivfflat_idx'"
+			).getSingleResult();
+			assertThat( indexDefinition ).containsIgnoringCase( "using ivfflat" ).contains( "vector_cosine_ops" );
+		} );
+	}
+
+	@Test
+	public void testNearestNeighbours(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( em -> {
+			//tag::nearest-neighbours-example[]
+			final List<Long> ids = em.createSelectionQuery(
+							"select e.id from IndexedVectorEntity e order by euclidean_distance(e.embedding, :vec) limit 2",
+							Long.class
+					)
+					.setParameter( "vec", new float[] { 6, 7, 8 } )
+					.getResultList();
+			//end::nearest-neighbours-example[]
+			assertThat( ids ).containsExactly( 2L, 3L );
+		} );
+		// the shape an approximate nearest neighbour index can be used for
+		assertThat( statementInspector.getSqlQueries().get( 0 ) )
+				.containsPattern( "order by .+<->" );
+	}
+
+	@Entity(name = "IndexedVectorEntity")
+	public static class IndexedVectorEntity {
+
+		@Id
+		private Long id;
+
+		//tag::vector-index-example[]
+		@Column(name = "embedding")
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		@VectorIndex(name = "embedding_hnsw_idx", type = VectorIndex.Type.HNSW, distance = VectorIndex.Distance.EUCLIDEAN)
+		private float[] embedding;
+		//end::vector-index-example[]
+
+		@Column(name = "`Other_Embedding`")
+		@JdbcTypeCode(SqlTypes.VECTOR)
+		@Array(length = 3)
+		@VectorIndex(type = VectorIndex.Type.IVFFLAT, distance = VectorIndex.Distance.COSINE)
+		private float[] otherEmbedding;
+
+		public IndexedVectorEntity() {
+		}
+
+		public IndexedVectorEntity(Long id, float[] embedding) {
+			this.id = id;
+			this.embedding = embedding;
+		}
+	}
+}
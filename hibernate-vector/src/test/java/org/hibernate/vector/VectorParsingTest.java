@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.vector;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the parsing of the textual vector representation.
+ */
+public class VectorParsingTest {
+
+	@Test
+	public void testSpecialValues() {
+		assertNull( VectorJdbcType.parseFloatVector( null ) );
+		assertArrayEquals( new float[0], VectorJdbcType.parseFloatVector( "[]" ) );
+		assertArrayEquals( new float[] { 1 }, VectorJdbcType.parseFloatVector( "[1]" ) );
+		assertArrayEquals(
+				new float[] { 1000, 2e-5f, 3.5f, -0.5f, -0f, 3.4028235e38f, 1.4e-45f, 7 },
+				VectorJdbcType.parseFloatVector( "[1e3,2E-05,+3.5,-.5,-0,3.4028235e+38,1.4e-45, 7]" ),
+				0
+		);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 10_000; i++ ) {
+			final float[] vector = new float[16];
+			final StringBuilder sb = new StringBuilder( "[" );
+			for ( int j = 0; j < vector.length; j++ ) {
+				vector[j] = j % 2 == 0
+						? (float) random.nextGaussian() * 0.05f
+						: Float.intBitsToFloat( random.nextInt() & 0x7F7FFFFF );
+				if ( j > 0 ) {
+					sb.append( ',' );
+				}
+				sb.append( vector[j] );
+			}
+			sb.append( ']' );
+
+			final float[] parsed = VectorJdbcType.parseFloatVector( sb.toString() );
+			for ( int j = 0; j < vector.length; j++ ) {
+				assertEquals( Float.floatToIntBits( vector[j] ), Float.floatToIntBits( parsed[j] ), sb.toString() );
+			}
+		}
+	}
+
+	@Test
+	public void testCorrectRounding() {
+		// decimals which are not the shortest representation of a float must still round correctly
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final String decimal = ( random.nextInt( 2_000_000 ) - 1_000_000 ) + "." + random.nextInt( 1_000_000_000 );
+			assertEquals(
+					Float.floatToIntBits( Float.parseFloat( decimal ) ),
+					Float.floatToIntBits( VectorJdbcType.parseFloatVector( "[" + decimal + "]" )[0] ),
+					decimal
+			);
+		}
+	}
+}
@@ -34,6 +34,7 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	private EnhancementSpec enhancementDsl;
 
 	private final Property<Boolean> useSameVersion;
+	private final Property<Boolean> buildIndex;
 	private final Property<SourceSet> sourceSet;
 	private final SetProperty<String> languages;
 
@@ -47,6 +48,9 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		useSameVersion = project.getObjects().property( Boolean.class );
 		useSameVersion.convention( true );
 
+		buildIndex = project.getObjects().property( Boolean.class );
+		buildIndex.convention( false );
+
 		sourceSet = project.getObjects().property( SourceSet.class );
 		sourceSet.convention( mainSourceSet( project ) );
 
@@ -83,6 +87,17 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		return useSameVersion;
 	}
 
+	/**
+	 * Should the plugin write a Jandex index of the domain model classes to `META-INF/jandex.idx`?
+	 * Specifying that resource as {@code hibernate.jandex_index} lets Hibernate read the annotations
+	 * of the domain model from the index at bootstrap rather than through reflection.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public Property<Boolean> getBuildIndex() {
+		return buildIndex;
+	}
+
 	/**
 	 * The source-set containing the domain model.  Defaults to the `main` source-set
 	 */
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.tooling.gradle.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.file.DirectoryProperty;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Writes a Jandex index of the compiled domain model classes, which Hibernate
+ * reads at bootstrap instead of reading the class annotations through reflection.
+ *
+ * @see #INDEX_FILE_NAME
+ */
+public class IndexHelper {
+	/**
+	 * The name of the index file, relative to the classes directory.  This is the
+	 * location Jandex itself uses, and the value to specify for
+	 * {@code hibernate.jandex_index} to have Hibernate use the index.
+	 */
+	public static final String INDEX_FILE_NAME = "META-INF/jandex.idx";
+
+	public static void index(DirectoryProperty classesDirectoryProperty, Project project) {
+		final File classesDir = classesDirectoryProperty.get().getAsFile();
+
+		final Indexer indexer = new Indexer();
+		indexClasses( classesDir, indexer, project );
+		final Index index = indexer.complete();
+
+		final File indexFile = new File( classesDir, INDEX_FILE_NAME );
+		if ( !indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs() ) {
+			throw new GradleException( "Unable to create directory for Jandex index : " + indexFile.getParentFile().getAbsolutePath() );
+		}
+
+		try ( OutputStream stream = Files.newOutputStream( indexFile.toPath() ) ) {
+			new IndexWriter( stream ).write( index );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Error writing Jandex index [" + indexFile.getAbsolutePath() + "]", e );
+		}
+
+		project.getLogger().info( "Wrote Jandex index of {} classes : {}", index.getKnownClasses().size(), project.relativePath( indexFile ) );
+	}
+
+	private static void indexClasses(File dir, Indexer indexer, Project project) {
+		final File[] subLocations = dir.listFiles();
+		if ( subLocations == null ) {
+			return;
+		}
+		for ( File subLocation : subLocations ) {
+			if ( subLocation.isDirectory() ) {
+				indexClasses( subLocation, indexer, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				try ( InputStream stream = Files.newInputStream( subLocation.toPath() ) ) {
+					indexer.index( stream );
+				}
+				catch (IOException e) {
+					throw new GradleException( "Unable to index class file : " + project.relativePath( subLocation ), e );
+				}
+			}
+		}
+	}
+
+	private IndexHelper() {
+	}
+}